@@ -0,0 +1,96 @@
+package com.github.arzormc.happyghastboost.benchmarks;
+
+import com.github.arzormc.happyghastboost.config.BoostSettings;
+import com.github.arzormc.happyghastboost.logic.BenchAccess;
+import com.github.arzormc.happyghastboost.util.ActionBarFrameCache;
+import com.github.arzormc.happyghastboost.util.BoostMetrics;
+import com.github.arzormc.happyghastboost.util.MessageUtil;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Action bar rendering: the pre-rendered frame lookup, the full per-tick MiniMessage render it replaced,
+ * and the tick's HUD path for one pilot (the compute step's change-only frame pick plus the apply phase's send).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActionBarBenchmark {
+
+    private BenchHarness harness;
+    private BoostSettings settings;
+    private ActionBarFrameCache frames;
+    private FakePlayer pilot;
+
+    private int slot;
+    private long now;
+    private int step;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        harness = BenchHarness.create();
+        settings = harness.presetManager.getSettings();
+        frames = new ActionBarFrameCache(settings);
+        pilot = harness.addPilot(0.0);
+        slot = harness.manager.getPilots().slotOf(pilot.id);
+        now = System.currentTimeMillis();
+    }
+
+    private double nextCharge() {
+        step = (step + 7) % 101;
+        return step / 100.0;
+    }
+
+    @Benchmark
+    public Component cachedFrame() {
+        double charge = nextCharge();
+        return frames.frameFor(charge, charge > 0.5);
+    }
+
+    @Benchmark
+    public Component fullRender() {
+        double charge = nextCharge();
+        boolean boosting = charge > 0.5;
+        String labelKey = boosting ? "boosting" : (charge >= 1.0 ? "boost-ready" : "charging");
+
+        TagResolver resolver = TagResolver.builder()
+                .resolver(Placeholder.component("label", MessageUtil.get(labelKey)))
+                .resolver(Placeholder.parsed("bar", MessageUtil.buildBoostBar(settings.barStyle(), charge, boosting)))
+                .resolver(Placeholder.unparsed("percent", String.valueOf((int) (charge * 100))))
+                .build();
+
+        return MiniMessage.miniMessage().deserialize(settings.actionbarFormat(), resolver);
+    }
+
+    @Benchmark
+    public long tickHud() {
+        double charge = nextCharge();
+        BenchAccess.setCharge(harness.manager, slot, charge, charge > 0.5);
+        now += 50L; // one tick
+
+        Component hud = BenchAccess.selectHudFrame(harness.manager, slot, pilot.name, now);
+        if (hud != null) {
+            pilot.self.sendActionBar(hud);
+            harness.manager.getMetrics().increment(BoostMetrics.Counter.ACTIONBARS_SENT);
+        }
+        return pilot.actionBarsSent;
+    }
+}
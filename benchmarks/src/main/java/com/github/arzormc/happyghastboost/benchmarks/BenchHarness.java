@@ -0,0 +1,191 @@
+package com.github.arzormc.happyghastboost.benchmarks;
+
+import com.github.arzormc.happyghastboost.HappyGhastBoost;
+import com.github.arzormc.happyghastboost.config.BoostPresetManager;
+import com.github.arzormc.happyghastboost.logic.BoostManager;
+import com.github.arzormc.happyghastboost.util.MessageUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.HappyGhast;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPlugin;
+import sun.misc.Unsafe;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Boots the real plugin objects (BoostPresetManager, BoostManager, PilotManager, BoostTickTasks) against
+ * stubbed Bukkit types, without a server and without running onEnable.
+ * <p>
+ * JavaPlugin refuses construction outside a plugin class loader, so the plugin instance is allocated
+ * without running constructors and its JavaPlugin fields (server, description, logger, config, data folder)
+ * are filled in reflectively.
+ */
+public final class BenchHarness {
+
+    /** Every pilot holds use permission; a tenth also hold the vip preset. */
+    public static final Set<String> PILOT_PERMISSIONS = Set.of("happyghastboost.use");
+    public static final Set<String> VIP_PERMISSIONS = Set.of("happyghastboost.use", "happyghastboost.preset.vip");
+
+    public final FakeServer server;
+    public final FakeWorld world;
+    public final HappyGhastBoost plugin;
+    public final BoostPresetManager presetManager;
+    public final BoostManager manager;
+
+    public final List<FakePlayer> pilots = new ArrayList<>();
+
+    private BenchHarness(Map<String, Object> overrides) throws Exception {
+        this.world = new FakeWorld();
+        this.world.self = StubFactory.create(World.class, world);
+        this.server = new FakeServer(world.self);
+        Server serverStub = StubFactory.create(Server.class, server);
+        installServer(serverStub);
+
+        Path dataFolder = Files.createTempDirectory("hgb-bench");
+        YamlConfiguration config = writeConfig(dataFolder, overrides);
+        copyResource("messages.yml", dataFolder);
+
+        this.plugin = allocatePlugin(serverStub, config, dataFolder);
+        MessageUtil.load(plugin);
+
+        this.presetManager = new BoostPresetManager(plugin);
+        this.presetManager.loadSettings();
+        this.manager = new BoostManager(plugin, presetManager);
+    }
+
+    /**
+     * Defaults tuned for a steady state: no logging, instant trigger, and no drain so boosting pilots stay boosting.
+     */
+    public static BenchHarness create() throws Exception {
+        return create(Map.of());
+    }
+
+    public static BenchHarness create(Map<String, Object> overrides) throws Exception {
+        Map<String, Object> merged = new java.util.HashMap<>(Map.of(
+                "logging-mode", "OFF",
+                "require-permission", true,
+                "forward-hold-ms", 0,
+                "drain-per-second", 0.0,
+                "presets.vip.drain-per-second", 0.0,
+                "presets.ultra.drain-per-second", 0.0,
+                "boost-rampup-speed-ms", 1,
+                "max-pilots", 16_384
+        ));
+        merged.putAll(overrides);
+        return new BenchHarness(merged);
+    }
+
+    // ======================
+    // 🎮 Pilots
+    // ======================
+
+    /**
+     * Mounts a new fake player on a new fake ghast and registers it through PilotManager.
+     *
+     * @param step blocks moved per tick along the ghast's heading; 0 for a parked pilot
+     */
+    public FakePlayer addPilot(double step) {
+        int index = pilots.size();
+        Set<String> permissions = index % 10 == 0 ? VIP_PERMISSIONS : PILOT_PERMISSIONS;
+
+        FakePlayer player = new FakePlayer("pilot" + index, world, permissions);
+        player.self = StubFactory.create(Player.class, player);
+
+        FakeGhast ghast = new FakeGhast(world, (index % 100) * 64.0, (index / 100) * 64.0, (index * 37) % 360, step);
+        ghast.self = StubFactory.create(HappyGhast.class, ghast);
+        player.vehicle = ghast;
+        player.forward = step > 0.0;
+
+        server.players.put(player.id, player.self);
+        server.entities.put(ghast.id, ghast.self);
+        world.players.add(player.self);
+
+        manager.getPilotManager().registerPilot(player.self, ghast.self);
+        pilots.add(player);
+        return player;
+    }
+
+    public void addPilots(int count, double step) {
+        for (int i = 0; i < count; i++) {
+            addPilot(step);
+        }
+    }
+
+    // ======================
+    // 🧰 Bootstrap
+    // ======================
+    private static void installServer(Server serverStub) throws ReflectiveOperationException {
+        // Bukkit.setServer() prints build info from services that only exist on a real server.
+        Field field = Bukkit.class.getDeclaredField("server");
+        field.setAccessible(true);
+        field.set(null, serverStub);
+    }
+
+    private static YamlConfiguration writeConfig(Path dataFolder, Map<String, Object> overrides) throws IOException {
+        YamlConfiguration config;
+        try (InputStream in = resource("config.yml")) {
+            config = YamlConfiguration.loadConfiguration(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        overrides.forEach(config::set);
+        config.save(dataFolder.resolve("config.yml").toFile());
+        return config;
+    }
+
+    private static void copyResource(String name, Path dataFolder) throws IOException {
+        try (InputStream in = resource(name)) {
+            Files.copy(in, dataFolder.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static InputStream resource(String name) {
+        InputStream in = HappyGhastBoost.class.getClassLoader().getResourceAsStream(name);
+        if (in == null) throw new IllegalStateException(name + " not found on the plugin classpath");
+        return in;
+    }
+
+    private static HappyGhastBoost allocatePlugin(Server serverStub, YamlConfiguration config, Path dataFolder)
+            throws ReflectiveOperationException {
+        Field unsafeField = Unsafe.class.getDeclaredField("theUnsafe");
+        unsafeField.setAccessible(true);
+        Unsafe unsafe = (Unsafe) unsafeField.get(null);
+
+        HappyGhastBoost plugin = (HappyGhastBoost) unsafe.allocateInstance(HappyGhastBoost.class);
+        PluginDescriptionFile description = new PluginDescriptionFile("HappyGhastBoost", "bench", HappyGhastBoost.class.getName());
+
+        for (Field field : JavaPlugin.class.getDeclaredFields()) {
+            if (java.lang.reflect.Modifier.isStatic(field.getModifiers())) continue;
+            field.setAccessible(true);
+
+            Class<?> type = field.getType();
+            switch (field.getName()) {
+                case "dataFolder" -> field.set(plugin, dataFolder.toFile());
+                case "configFile" -> field.set(plugin, dataFolder.resolve("config.yml").toFile());
+                case "file" -> field.set(plugin, dataFolder.resolve("HappyGhastBoost.jar").toFile());
+                case "isEnabled" -> field.setBoolean(plugin, true);
+                default -> {
+                    if (type.isInstance(serverStub)) field.set(plugin, serverStub);
+                    else if (type.isInstance(description)) field.set(plugin, description);
+                    else if (type.isInstance(config)) field.set(plugin, config);
+                    else if (type.isAssignableFrom(java.util.logging.Logger.class)) field.set(plugin, java.util.logging.Logger.getLogger("HappyGhastBoost"));
+                }
+            }
+        }
+
+        return plugin;
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.arzormc.happyghastboost.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Entry point of benchmarks.jar. Runs the selected benchmarks (all by default; any JMH command-line option
+ * still applies) with the GC profiler, and writes JSON results to {@code benchmark-results/} so runs can be
+ * diffed, e.g. with jmh.morethan.io.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path resultsDir = Path.of(System.getProperty("hgb.results", "benchmark-results"));
+        Files.createDirectories(resultsDir);
+
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path resultFile = resultsDir.resolve("hgb-" + stamp + ".json");
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.toString())
+                .build();
+
+        new Runner(options).run();
+        System.out.println("Results written to " + resultFile.toAbsolutePath());
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.arzormc.happyghastboost.benchmarks;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+
+/**
+ * Delegate behind the PersistentDataContainer stub: always empty, writes are counted and dropped.
+ */
+public final class FakeDataContainer {
+
+    public long writes;
+
+    public <P, C> boolean has(NamespacedKey key, PersistentDataType<P, C> type) {
+        return false;
+    }
+
+    public <P, C> C get(NamespacedKey key, PersistentDataType<P, C> type) {
+        return null;
+    }
+
+    public <P, C> void set(NamespacedKey key, PersistentDataType<P, C> type, C value) {
+        writes++;
+    }
+
+    public void remove(NamespacedKey key) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.arzormc.happyghastboost.benchmarks;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.HappyGhast;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.util.Vector;
+
+import java.util.UUID;
+
+/**
+ * Delegate behind the {@link HappyGhast} stub. Every position read advances the ghast one step along
+ * its heading, which is what a pilot holding forward looks like to the tick loop.
+ */
+public final class FakeGhast {
+
+    public HappyGhast self;
+
+    public final UUID id = UUID.randomUUID();
+    public final FakeWorld world;
+    public final PersistentDataContainer data;
+
+    public double x;
+    public double y = 100.0;
+    public double z;
+    public float yaw;
+    public double stepX;
+    public double stepZ;
+
+    public double velocityX;
+    public double velocityY;
+    public double velocityZ;
+    public long velocityUpdates;
+    private final Vector velocity = new Vector();
+
+    public FakeGhast(FakeWorld world, double x, double z, float yaw, double step) {
+        this.world = world;
+        this.x = x;
+        this.z = z;
+        this.yaw = yaw;
+        this.stepX = -Math.sin(Math.toRadians(yaw)) * step;
+        this.stepZ = Math.cos(Math.toRadians(yaw)) * step;
+        this.data = StubFactory.create(PersistentDataContainer.class, new FakeDataContainer());
+    }
+
+    public UUID getUniqueId() {
+        return id;
+    }
+
+    public boolean isValid() {
+        return true;
+    }
+
+    public World getWorld() {
+        return world.self;
+    }
+
+    public Location getLocation() {
+        return new Location(world.self, x, y, z, yaw, 0f);
+    }
+
+    public Location getLocation(Location into) {
+        x += stepX;
+        z += stepZ;
+
+        into.setWorld(world.self);
+        into.setX(x);
+        into.setY(y);
+        into.setZ(z);
+        into.setYaw(yaw);
+        into.setPitch(0f);
+        return into;
+    }
+
+    // The stub ghast has no drag, so it keeps whatever velocity was last set.
+    public Vector getVelocity() {
+        return velocity.setX(velocityX).setY(velocityY).setZ(velocityZ);
+    }
+
+    public void setVelocity(Vector velocity) {
+        velocityX = velocity.getX();
+        velocityY = velocity.getY();
+        velocityZ = velocity.getZ();
+        velocityUpdates++;
+    }
+
+    public PersistentDataContainer getPersistentDataContainer() {
+        return data;
+    }
+}
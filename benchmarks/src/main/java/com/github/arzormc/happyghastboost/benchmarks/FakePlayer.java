@@ -0,0 +1,99 @@
+package com.github.arzormc.happyghastboost.benchmarks;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.Input;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Delegate behind the {@link Player} stub. Looks where its ghast is heading and records action bars.
+ */
+public final class FakePlayer {
+
+    public Player self;
+
+    public final UUID id = UUID.randomUUID();
+    public final String name;
+    public final FakeWorld world;
+    public final Set<String> permissions;
+
+    public FakeGhast vehicle;
+
+    public Component lastActionBar;
+    public long actionBarsSent;
+
+    /** Keys reported by getCurrentInput(), for trigger-mode INPUT runs. */
+    public boolean forward;
+    public boolean sprint;
+    private final Input input = new KeyState();
+
+    public FakePlayer(String name, FakeWorld world, Set<String> permissions) {
+        this.name = name;
+        this.world = world;
+        this.permissions = permissions;
+    }
+
+    public UUID getUniqueId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isOnline() {
+        return true;
+    }
+
+    public boolean hasPermission(String permission) {
+        return permissions.contains(permission);
+    }
+
+    public Entity getVehicle() {
+        return vehicle != null ? vehicle.self : null;
+    }
+
+    public World getWorld() {
+        return world.self;
+    }
+
+    public Location getLocation() {
+        return getLocation(new Location(world.self, 0, 0, 0));
+    }
+
+    public Location getLocation(Location into) {
+        into.setWorld(world.self);
+        if (vehicle != null) {
+            into.setX(vehicle.x);
+            into.setY(vehicle.y + 1.5);
+            into.setZ(vehicle.z);
+            into.setYaw(vehicle.yaw);
+        }
+        into.setPitch(0f);
+        return into;
+    }
+
+    public Input getCurrentInput() {
+        return input;
+    }
+
+    public void sendActionBar(Component message) {
+        lastActionBar = message;
+        actionBarsSent++;
+    }
+
+    private final class KeyState implements Input {
+        @Override public boolean isForward() { return forward; }
+        @Override public boolean isBackward() { return false; }
+        @Override public boolean isLeft() { return false; }
+        @Override public boolean isRight() { return false; }
+        @Override public boolean isJump() { return false; }
+        @Override public boolean isSneak() { return false; }
+        @Override public boolean isSprint() { return sprint; }
+    }
+}
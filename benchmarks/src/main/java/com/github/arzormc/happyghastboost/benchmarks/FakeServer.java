@@ -0,0 +1,71 @@
+package com.github.arzormc.happyghastboost.benchmarks;
+
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Delegate behind the Server stub: a single world and a UUID index of the fake players and ghasts.
+ */
+public final class FakeServer {
+
+    public final Logger logger = Logger.getLogger("HappyGhastBoost-Bench");
+    public final Map<UUID, Player> players = new HashMap<>();
+    public final Map<UUID, Entity> entities = new HashMap<>();
+    public final List<World> worlds;
+
+    public FakeServer(World world) {
+        this.worlds = List.of(world);
+    }
+
+    public Logger getLogger() {
+        return logger;
+    }
+
+    public String getName() {
+        return "HappyGhastBoost-Bench";
+    }
+
+    public String getVersion() {
+        return "bench";
+    }
+
+    public String getBukkitVersion() {
+        return "1.21.7-R0.1-SNAPSHOT";
+    }
+
+    public String getMinecraftVersion() {
+        return "1.21.7";
+    }
+
+    public int getMaxPlayers() {
+        return 100;
+    }
+
+    public Player getPlayer(UUID id) {
+        return players.get(id);
+    }
+
+    public Entity getEntity(UUID id) {
+        return entities.get(id);
+    }
+
+    public Collection<? extends Player> getOnlinePlayers() {
+        return players.values();
+    }
+
+    public List<World> getWorlds() {
+        return worlds;
+    }
+
+    public boolean isPrimaryThread() {
+        return true;
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.arzormc.happyghastboost.benchmarks;
+
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Delegate behind the {@link World} stub. Counts particles (per receiver) instead of sending them.
+ */
+public final class FakeWorld {
+
+    public World self;
+
+    public final UUID id = UUID.randomUUID();
+    public final List<Player> players = new ArrayList<>();
+
+    public long particlesSpawned;
+
+    public String getName() {
+        return "bench_world";
+    }
+
+    public UUID getUID() {
+        return id;
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    public int getMinHeight() {
+        return -64;
+    }
+
+    public int getMaxHeight() {
+        return 320;
+    }
+
+    public void spawnParticle(Particle particle, double x, double y, double z, int count,
+                              double offsetX, double offsetY, double offsetZ, double extra) {
+        particlesSpawned += count;
+    }
+
+    public void spawnParticle(Particle particle, List<Player> receivers, Player source, double x, double y, double z,
+                              int count, double offsetX, double offsetY, double offsetZ, double extra,
+                              Object data, boolean force) {
+        particlesSpawned += (long) count * receivers.size();
+    }
+}
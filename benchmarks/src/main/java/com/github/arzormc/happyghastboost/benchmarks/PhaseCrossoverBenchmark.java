@@ -0,0 +1,51 @@
+package com.github.arzormc.happyghastboost.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serial vs parallel compute phase of the boost loop at growing pilot counts, all boosting.
+ * The smallest {@code pilots} where PARALLEL beats SERIAL is a good parallel-pilot-threshold for that machine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PhaseCrossoverBenchmark {
+
+    @Param({"64", "128", "256", "512", "1024", "2048", "4096"})
+    public int pilots;
+
+    /** SERIAL steps every pilot on the calling thread; PARALLEL always uses the compute pool. */
+    @Param({"SERIAL", "PARALLEL"})
+    public String mode;
+
+    private BenchHarness harness;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        int threshold = "PARALLEL".equals(mode) ? 1 : 0;
+        harness = BenchHarness.create(Map.of("parallel-pilot-threshold", threshold));
+        harness.addPilots(pilots, 0.6);
+    }
+
+    @Benchmark
+    public void tick() {
+        harness.manager.getTickTasks().tickAll(System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.arzormc.happyghastboost.benchmarks;
+
+import com.github.arzormc.happyghastboost.config.BoostPresetManager;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BoostPresetManager.getPresetFor for a player with no preset permission (walks every preset)
+ * and for a player holding one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PresetLookupBenchmark {
+
+    @Param({"NONE", "VIP"})
+    public String grant;
+
+    private BoostPresetManager presetManager;
+    private Player player;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchHarness harness = BenchHarness.create();
+        presetManager = harness.presetManager;
+
+        Set<String> permissions = "VIP".equals(grant) ? BenchHarness.VIP_PERMISSIONS : BenchHarness.PILOT_PERMISSIONS;
+        FakePlayer fake = new FakePlayer("lookup", harness.world, permissions);
+        fake.self = StubFactory.create(Player.class, fake);
+        player = fake.self;
+    }
+
+    @Benchmark
+    public BoostPresetManager.BoostPreset getPresetFor() {
+        return presetManager.getPresetFor(player);
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.arzormc.happyghastboost.benchmarks;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.ExceptionMethod;
+import net.bytebuddy.implementation.MethodDelegation;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static net.bytebuddy.matcher.ElementMatchers.isAbstract;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+/**
+ * Builds Bukkit interface stubs (Player, HappyGhast, World, Server...) that forward to a plain delegate object.
+ * <p>
+ * Every interface method with a same-named, same-signature public method on the delegate is bound to it with a
+ * direct call through a field, so stubs add no per-call allocation (unlike java.lang.reflect.Proxy) and don't
+ * distort the GC profiler. Anything else throws, so a benchmark that strays off the modelled path fails loudly.
+ * One class is generated per (interface, delegate type) pair and reused for every instance.
+ */
+final class StubFactory {
+
+    private static final String DELEGATE_FIELD = "delegate";
+
+    private static final Map<String, Class<?>> GENERATED = new ConcurrentHashMap<>();
+
+    private StubFactory() {
+    }
+
+    static <T> T create(Class<T> api, Object delegate) {
+        Class<?> stubType = GENERATED.computeIfAbsent(
+                api.getName() + "<-" + delegate.getClass().getName(),
+                key -> generate(api, delegate.getClass())
+        );
+
+        try {
+            Object stub = stubType.getDeclaredConstructor().newInstance();
+            Field field = stubType.getField(DELEGATE_FIELD);
+            field.set(stub, delegate);
+            return api.cast(stub);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not instantiate stub for " + api.getName(), e);
+        }
+    }
+
+    private static Class<?> generate(Class<?> api, Class<?> delegateType) {
+        DynamicType.Builder<Object> builder = new ByteBuddy()
+                .subclass(Object.class)
+                .implement(api)
+                .defineField(DELEGATE_FIELD, delegateType, Visibility.PUBLIC)
+                .method(isAbstract())
+                .intercept(ExceptionMethod.throwing(UnsupportedOperationException.class,
+                        "Not modelled by the benchmark stub for " + api.getSimpleName()));
+
+        // Matchers registered later take precedence, so these override the throwing default.
+        for (Method method : delegateType.getMethods()) {
+            if (method.getDeclaringClass() == Object.class || Modifier.isStatic(method.getModifiers())) continue;
+
+            builder = builder
+                    .method(named(method.getName()).and(takesArguments(method.getParameterTypes())))
+                    .intercept(MethodDelegation.withDefaultConfiguration()
+                            .filter(named(method.getName()).and(takesArguments(method.getParameterTypes())))
+                            .toField(DELEGATE_FIELD));
+        }
+
+        return builder.make()
+                .load(StubFactory.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+    }
+}
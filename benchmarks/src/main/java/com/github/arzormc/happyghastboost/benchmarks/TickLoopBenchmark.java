@@ -0,0 +1,54 @@
+package com.github.arzormc.happyghastboost.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full pass of the boost loop (what the classic backend's timer runs) over N pilots.
+ * Divide ns/op and gc.alloc.rate.norm by {@code pilots} for the per-pilot cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TickLoopBenchmark {
+
+    @Param({"1", "100", "1000", "10000"})
+    public int pilots;
+
+    /** BOOSTING pilots fly straight and stay boosted; PARKED pilots hover with a full bar. */
+    @Param({"BOOSTING", "PARKED"})
+    public String motion;
+
+    /** How "holding forward" is detected: position diffing or the pilot's reported keys. */
+    @Param({"MOVEMENT", "INPUT"})
+    public String trigger;
+
+    private BenchHarness harness;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        harness = BenchHarness.create(Map.of("trigger-mode", trigger));
+        harness.addPilots(pilots, "BOOSTING".equals(motion) ? 0.6 : 0.0);
+    }
+
+    @Benchmark
+    public void tick() {
+        harness.manager.getTickTasks().tickAll(System.currentTimeMillis());
+    }
+}
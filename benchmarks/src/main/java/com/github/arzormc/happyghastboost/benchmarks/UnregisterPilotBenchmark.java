@@ -0,0 +1,63 @@
+package com.github.arzormc.happyghastboost.benchmarks;
+
+import com.github.arzormc.happyghastboost.logic.PilotManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PilotManager.unregisterPilot with N registered pilots. Each op unregisters one pilot and registers it again
+ * so the population stays constant; compare against {@code registerOnly} to isolate the unregister cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UnregisterPilotBenchmark {
+
+    @Param({"1", "100", "1000", "10000"})
+    public int pilots;
+
+    private BenchHarness harness;
+    private PilotManager pilotManager;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        harness = BenchHarness.create();
+        harness.addPilots(pilots, 0.0);
+        pilotManager = harness.manager.getPilotManager();
+    }
+
+    private FakePlayer nextPilot() {
+        FakePlayer pilot = harness.pilots.get(next);
+        next = (next + 1) % harness.pilots.size();
+        return pilot;
+    }
+
+    @Benchmark
+    public void unregisterAndRegister() {
+        FakePlayer pilot = nextPilot();
+        pilotManager.unregisterPilot(pilot.self);
+        pilotManager.registerPilot(pilot.self, pilot.vehicle.self);
+    }
+
+    @Benchmark
+    public void registerOnly() {
+        FakePlayer pilot = nextPilot();
+        pilotManager.registerPilot(pilot.self, pilot.vehicle.self);
+    }
+}
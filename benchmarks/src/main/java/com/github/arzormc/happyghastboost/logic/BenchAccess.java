@@ -0,0 +1,29 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import net.kyori.adventure.text.Component;
+
+/**
+ * The package-private pieces of the tick pipeline that benchmarks time directly. Lives in the benchmarks
+ * module, in the plugin's own package, so the plugin doesn't widen its API for them.
+ */
+public final class BenchAccess {
+
+    private BenchAccess() {
+    }
+
+    /**
+     * Sets what the HUD shows for the slot, as a compute step would have left it.
+     */
+    public static void setCharge(BoostManager manager, int slot, double charge, boolean boosting) {
+        PilotRegistry pilots = manager.getPilots();
+        pilots.charge[slot] = charge;
+        pilots.boosting[slot] = boosting;
+    }
+
+    /**
+     * The compute step's HUD pick: the frame to send this tick, or null if the pilot's bar is unchanged.
+     */
+    public static Component selectHudFrame(BoostManager manager, int slot, String name, long now) {
+        return manager.getStateMachine().selectHudFrame(slot, name, manager.getSettings(), manager.getHudFrames(), now);
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.arzormc.happyghastboost.benchmarks;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Allocation budget check for the steady-state tick, using the JVM's per-thread allocated-bytes counter.
+ * <p>
+ * Runs the boost loop over boosting pilots until the JIT has settled, then measures how many bytes the
+ * ticking thread allocates per pilot per tick. The Bukkit stubs allocate nothing, so on a real server
+ * the only remaining allocations are inside Entity#getVelocity and Entity#setVelocity.
+ * <p>
+ * The counter only sees the calling thread, so the compute phase is kept serial: on the compute pool its
+ * allocations would go uncounted. Runs in the test phase of {@code mvn -f benchmarks/pom.xml package};
+ * {@code -Dhgb.alloc.pilots} and {@code -Dhgb.alloc.budget} (bytes per pilot per tick) override the defaults.
+ */
+class TickAllocationBudgetTest {
+
+    private static final int WARMUP_TICKS = 20_000;
+    private static final int MEASURED_TICKS = 5_000;
+
+    @Test
+    void steadyStateTickStaysWithinBudget() throws Exception {
+        int pilots = Integer.getInteger("hgb.alloc.pilots", 100);
+        double budget = Double.parseDouble(System.getProperty("hgb.alloc.budget", "0"));
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        BenchHarness harness = BenchHarness.create(Map.of("parallel-pilot-threshold", 0));
+        harness.addPilots(pilots, 0.6);
+
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            harness.manager.getTickTasks().tickAll(System.currentTimeMillis());
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            harness.manager.getTickTasks().tickAll(System.currentTimeMillis());
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        double perPilotTick = (double) allocated / ((long) MEASURED_TICKS * pilots);
+        assertTrue(perPilotTick <= budget, String.format(
+                "Steady-state tick: %d bytes over %d ticks x %d pilots = %.3f bytes/pilot/tick (budget %.3f)",
+                allocated, MEASURED_TICKS, pilots, perPilotTick, budget));
+    }
+}
@@ -3,7 +3,6 @@ package com.github.arzormc.happyghastboost;
 import com.github.arzormc.happyghastboost.command.CommandHandler;
 import com.github.arzormc.happyghastboost.config.BoostPresetManager;
 import com.github.arzormc.happyghastboost.events.BoostEventListener;
-import com.github.arzormc.happyghastboost.logic.BoostTickTasks;
 import com.github.arzormc.happyghastboost.logic.BoostManager;
 import com.github.arzormc.happyghastboost.util.MessageUtil;
 import org.bukkit.command.PluginCommand;
@@ -45,10 +44,12 @@ public class HappyGhastBoost extends JavaPlugin {
         getServer().getPluginManager().registerEvents(boostManager, this);
         getServer().getPluginManager().registerEvents(new BoostEventListener(boostManager), this);
 
-        boostManager.getChargeStorage().loadChargeDataFromPDC();
         getLogger().info("✅ Boost manager and listeners initialized.");
 
-        new BoostTickTasks(boostManager).start();
+        boostManager.getTickTasks().start();
+        boostManager.getMetricsExporter().apply(boostManager.getSettings().metricsExport());
+        boostManager.getFlightStats().apply(boostManager.getSettings().flightStats());
+        boostManager.getFlightRecorder().apply(boostManager.getSettings().flightRecording());
 
         PluginCommand command = getCommand("happyghastboost");
         if (command != null) {
@@ -65,7 +66,14 @@ public class HappyGhastBoost extends JavaPlugin {
     @Override
     public void onDisable() {
         if (boostManager != null) {
-            boostManager.getChargeStorage().saveChargeDataToPDC();
+            boostManager.getTickTasks().stop();
+            boostManager.getMetricsExporter().stop();
+            boostManager.getProfiler().cancel();
+            boostManager.getChargeStorage().flushAll(null);
+            boostManager.getPilotManager().shipAllFlightStats();
+            boostManager.getFlightStats().stop();
+            boostManager.getFlightRecorder().stop();
+            boostManager.getLogger().shutdown();
         }
         getLogger().info("📦 HappyGhastBoost disabled.");
     }
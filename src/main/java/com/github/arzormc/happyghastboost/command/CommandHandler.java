@@ -1,17 +1,25 @@
 package com.github.arzormc.happyghastboost.command;
 
+import com.github.arzormc.happyghastboost.util.BoostLogger;
+import com.github.arzormc.happyghastboost.util.BoostMetrics;
+import com.github.arzormc.happyghastboost.util.FlightStatsStore;
+import com.github.arzormc.happyghastboost.util.LatencyHistogram;
 import com.github.arzormc.happyghastboost.util.BoostLogger.LoggingMode;
 
 import com.github.arzormc.happyghastboost.HappyGhastBoost;
 import com.github.arzormc.happyghastboost.logic.BoostManager;
+import com.github.arzormc.happyghastboost.logic.LoadGovernor;
 import com.github.arzormc.happyghastboost.util.MessageUtil;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import org.bukkit.command.*;
+import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
 @SuppressWarnings("NullableProblems")
 public class CommandHandler implements CommandExecutor, TabCompleter {
@@ -19,6 +27,8 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
     private final HappyGhastBoost plugin;
     private final BoostManager boostManager;
 
+    private static final int MAX_PROFILE_SECONDS = 300;
+
     public CommandHandler(HappyGhastBoost plugin, BoostManager boostManager) {
         this.plugin = plugin;
         this.boostManager = boostManager;
@@ -34,6 +44,16 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
             @NotNull String label,
             @NotNull String[] args
     ) {
+        if (args.length == 1 && args[0].equalsIgnoreCase("trails")) {
+            handleTrails(sender);
+            return true;
+        }
+
+        if (args.length >= 1 && args[0].equalsIgnoreCase("top")) {
+            handleTop(sender, args.length == 2 ? args[1] : null);
+            return true;
+        }
+
         if (!sender.hasPermission("happyghastboost.admin")) {
             MessageUtil.send(sender, "no-permission");
             return true;
@@ -62,8 +82,11 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
                     MessageUtil.send(sender, "logging-mode-set", Placeholder.parsed("mode", "<aqua>VERBOSE"));
                     return true;
                 }
+                case "stats" -> {
+                    handleStats(sender);
+                    return true;
+                }
                 case "reload" -> {
-                    plugin.reloadConfig();
                     MessageUtil.load(plugin);
                     boostManager.reloadSettings();
                     MessageUtil.send(sender, "reload-complete");
@@ -72,10 +95,195 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
             }
         }
 
+        if (args.length == 3 && args[0].equalsIgnoreCase("log")) {
+            handleCategoryLog(sender, args[1], args[2]);
+            return true;
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("profile")) {
+            handleProfile(sender, args[1]);
+            return true;
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("stats") && args[1].equalsIgnoreCase("reset")) {
+            boostManager.getMetrics().reset();
+            MessageUtil.send(sender, "stats-reset");
+            return true;
+        }
+
         MessageUtil.send(sender, "invalid-usage");
+        sendLoadStatus(sender);
         return true;
     }
 
+    // /hgb trails
+    private void handleTrails(CommandSender sender) {
+        if (!(sender instanceof Player player)) {
+            MessageUtil.send(sender, "players-only");
+            return;
+        }
+        if (!player.hasPermission("happyghastboost.trails")) {
+            MessageUtil.send(sender, "no-permission");
+            return;
+        }
+
+        boolean hidden = boostManager.getTrailRenderer().toggleHideOthers(player);
+        MessageUtil.send(sender, hidden ? "trails-hidden" : "trails-shown");
+    }
+
+    // /hgb top <stat>
+    private void handleTop(CommandSender sender, String rawStat) {
+        if (!sender.hasPermission("happyghastboost.top")) {
+            MessageUtil.send(sender, "no-permission");
+            return;
+        }
+
+        FlightStatsStore store = boostManager.getFlightStats();
+        if (!store.isEnabled()) {
+            MessageUtil.send(sender, "top-disabled");
+            return;
+        }
+
+        FlightStatsStore.Stat stat = rawStat != null ? FlightStatsStore.Stat.fromKey(rawStat) : null;
+        if (stat == null) {
+            MessageUtil.send(sender, "top-usage");
+            return;
+        }
+
+        // Reads the leaderboard cache the stats writer refreshes on every flush; never the database.
+        List<FlightStatsStore.Entry> entries = store.top(stat);
+        if (entries.isEmpty()) {
+            MessageUtil.send(sender, "top-empty");
+            return;
+        }
+
+        MessageUtil.send(sender, "top-header", Placeholder.unparsed("stat", stat.key));
+        for (int rank = 0; rank < entries.size(); rank++) {
+            FlightStatsStore.Entry entry = entries.get(rank);
+            MessageUtil.send(sender, "top-entry",
+                    Placeholder.unparsed("rank", Integer.toString(rank + 1)),
+                    Placeholder.unparsed("player", entry.name()),
+                    Placeholder.unparsed("value", formatStat(stat, entry.value())));
+        }
+    }
+
+    private static String formatStat(FlightStatsStore.Stat stat, double value) {
+        return switch (stat) {
+            case BOOSTS, LOST -> Long.toString(Math.round(value));
+            case TIME -> formatDuration(Math.round(value));
+            case DISTANCE -> String.format(Locale.ROOT, "%.0f blocks", value);
+            case SPEED -> String.format(Locale.ROOT, "%.1f blocks/s", value);
+        };
+    }
+
+    // /hgb stats
+    private void handleStats(CommandSender sender) {
+        BoostMetrics metrics = boostManager.getMetrics();
+        LatencyHistogram tick = metrics.tickDuration();
+        long sinceSeconds = (System.currentTimeMillis() - metrics.resetAt()) / 1000L;
+
+        MessageUtil.send(sender, "stats-header", Placeholder.unparsed("since", formatDuration(sinceSeconds)));
+        MessageUtil.send(sender, "stats-tick",
+                Placeholder.unparsed("p50", formatMillis(tick.percentileMicros(0.50))),
+                Placeholder.unparsed("p99", formatMillis(tick.percentileMicros(0.99))),
+                Placeholder.unparsed("max", formatMillis(tick.maxMicros())),
+                Placeholder.unparsed("samples", Long.toString(tick.count())));
+        MessageUtil.send(sender, "stats-pilots",
+                Placeholder.unparsed("active", Integer.toString(metrics.activePilots())),
+                Placeholder.unparsed("boosting", Integer.toString(metrics.boostingPilots())));
+        sendLoadStatus(sender);
+        MessageUtil.send(sender, "stats-boosts",
+                Placeholder.unparsed("triggered", Long.toString(metrics.get(BoostMetrics.Counter.BOOSTS_TRIGGERED))),
+                Placeholder.unparsed("lost", Long.toString(metrics.get(BoostMetrics.Counter.BOOSTS_LOST))),
+                Placeholder.unparsed("emptied", Long.toString(metrics.get(BoostMetrics.Counter.BOOSTS_EMPTIED))),
+                Placeholder.unparsed("blocked", Long.toString(metrics.get(BoostMetrics.Counter.BOOSTS_BLOCKED))),
+                Placeholder.unparsed("zoned", Long.toString(metrics.get(BoostMetrics.Counter.BOOSTS_ZONED))),
+                Placeholder.unparsed("governed", Long.toString(metrics.get(BoostMetrics.Counter.BOOSTS_GOVERNED))));
+        MessageUtil.send(sender, "stats-output",
+                Placeholder.unparsed("actionbars", Long.toString(metrics.get(BoostMetrics.Counter.ACTIONBARS_SENT))),
+                Placeholder.unparsed("particles", Long.toString(metrics.get(BoostMetrics.Counter.PARTICLES_SPAWNED))),
+                Placeholder.unparsed("velocity", Long.toString(metrics.get(BoostMetrics.Counter.VELOCITY_UPDATES))),
+                Placeholder.unparsed("velocity_skipped", Long.toString(metrics.get(BoostMetrics.Counter.VELOCITY_SKIPPED))),
+                Placeholder.unparsed("writes", Long.toString(metrics.get(BoostMetrics.Counter.PDC_WRITES))));
+    }
+
+    private void sendLoadStatus(CommandSender sender) {
+        if (!boostManager.getSettings().loadShedding().enabled()) {
+            MessageUtil.send(sender, "load-status-off");
+            return;
+        }
+
+        LoadGovernor governor = boostManager.getLoadGovernor();
+        LoadGovernor.Level level = governor.level();
+        MessageUtil.send(sender, level == LoadGovernor.Level.NORMAL ? "load-status-normal" : "load-status-shedding",
+                Placeholder.unparsed("level", Integer.toString(level.ordinal())),
+                Placeholder.unparsed("effects", level.label),
+                Placeholder.unparsed("mspt", String.format(Locale.ROOT, "%.1f", governor.lastMspt())));
+    }
+
+    // /hgb profile <seconds>
+    private void handleProfile(CommandSender sender, String rawSeconds) {
+        int seconds;
+        try {
+            seconds = Integer.parseInt(rawSeconds);
+        } catch (NumberFormatException e) {
+            seconds = -1;
+        }
+
+        if (seconds < 1 || seconds > MAX_PROFILE_SECONDS) {
+            MessageUtil.send(sender, "profile-invalid-seconds",
+                    Placeholder.unparsed("value", rawSeconds),
+                    Placeholder.unparsed("max", Integer.toString(MAX_PROFILE_SECONDS)));
+            return;
+        }
+
+        if (!boostManager.getProfiler().start(sender, seconds)) {
+            MessageUtil.send(sender, "profile-already-running");
+            return;
+        }
+        MessageUtil.send(sender, "profile-started", Placeholder.unparsed("seconds", Integer.toString(seconds)));
+    }
+
+    private static String formatMillis(long micros) {
+        return String.format(Locale.ROOT, "%.3f", micros / 1000.0);
+    }
+
+    private static String formatDuration(long seconds) {
+        if (seconds < 60) return seconds + "s";
+        if (seconds < 3600) return (seconds / 60) + "m " + (seconds % 60) + "s";
+        return (seconds / 3600) + "h " + (seconds % 3600 / 60) + "m";
+    }
+
+    // /hgb log <category|all> <level>
+    private void handleCategoryLog(CommandSender sender, String rawCategory, String rawLevel) {
+        LoggingMode level = BoostLogger.parseLevel(rawLevel);
+        if (level == null) {
+            MessageUtil.send(sender, "invalid-log-level", Placeholder.unparsed("value", rawLevel));
+            return;
+        }
+
+        BoostLogger logger = boostManager.getLogger();
+        if (rawCategory.equalsIgnoreCase("all")) {
+            logger.clearCategoryLevels();
+            logger.setLoggingMode(level);
+            MessageUtil.send(sender, "logging-mode-set", Placeholder.parsed("mode", level.name()));
+            return;
+        }
+
+        String category = BoostLogger.resolveCategory(rawCategory);
+        if (category == null) {
+            MessageUtil.send(sender, "invalid-log-category",
+                    Placeholder.unparsed("value", rawCategory),
+                    Placeholder.unparsed("categories", String.join(", ", BoostLogger.CATEGORIES)));
+            return;
+        }
+
+        logger.setCategoryLevel(category, level);
+        MessageUtil.send(sender, "logging-category-set",
+                Placeholder.unparsed("category", category),
+                Placeholder.parsed("mode", level.name()));
+    }
+
 
     @Override
     public List<String> onTabComplete(
@@ -84,10 +292,38 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
             @NotNull String alias,
             @NotNull String[] args
     ) {
-        if (!sender.hasPermission("happyghastboost.admin")) return Collections.emptyList();
+        boolean admin = sender.hasPermission("happyghastboost.admin");
 
         if (args.length == 1) {
-            return Arrays.asList("logdisable", "logbasic", "logdebug", "logverbose", "reload");
+            List<String> subcommands = new ArrayList<>();
+            if (sender.hasPermission("happyghastboost.trails")) subcommands.add("trails");
+            if (sender.hasPermission("happyghastboost.top")) subcommands.add("top");
+            if (admin) subcommands.addAll(List.of("logdisable", "logbasic", "logdebug", "logverbose", "log", "stats", "profile", "reload"));
+            return subcommands;
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("top") && sender.hasPermission("happyghastboost.top")) {
+            return Arrays.stream(FlightStatsStore.Stat.values()).map(stat -> stat.key).toList();
+        }
+
+        if (!admin) return Collections.emptyList();
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("stats")) {
+            return List.of("reset");
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("profile")) {
+            return List.of("10", "30", "60");
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("log")) {
+            List<String> categories = new ArrayList<>(BoostLogger.CATEGORIES);
+            categories.add("all");
+            return categories;
+        }
+
+        if (args.length == 3 && args[0].equalsIgnoreCase("log")) {
+            return Arrays.stream(LoggingMode.values()).map(Enum::name).toList();
         }
 
         return Collections.emptyList();
@@ -1,28 +1,22 @@
 package com.github.arzormc.happyghastboost.config;
 
 import com.github.arzormc.happyghastboost.HappyGhastBoost;
+import com.github.arzormc.happyghastboost.util.EasingCurve;
 import org.bukkit.Particle;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
-import java.util.Map;
+import java.util.logging.Logger;
 
 public class BoostPresetManager {
 
     private final HappyGhastBoost plugin;
 
-    private final Map<String, BoostPreset> presetMap = new HashMap<>();
-
-    private BoostPreset defaultPreset;
-
-    private double boostSpeed;
-    private int updateInterval;
-    private boolean trailEnabled;
-    @SuppressWarnings("FieldCanBeLocal")
-    private Particle trailType;
+    private volatile BoostSettings settings;
 
     public BoostPresetManager(HappyGhastBoost plugin) {
         this.plugin = plugin;
@@ -33,30 +27,47 @@ public class BoostPresetManager {
     // ======================
     public void loadSettings() {
         plugin.saveDefaultConfig(); // Ensure defaults exist
-        FileConfiguration config = plugin.getConfig();
+        settings = compile(plugin.getConfig(), plugin.getLogger());
+        plugin.getLogger().info("HappyGhastBoost settings loaded. " + settings.presets().size() + " presets available.");
+    }
 
-        boostSpeed = config.getDouble("boost-speed", 1.0);
-        updateInterval = config.getInt("update-interval", 2);
-        trailEnabled = config.getBoolean("particle-trail.enabled", true);
+    /**
+     * Compiles a config.yml tree into settings. Static so offline tools can compile a config without a server.
+     */
+    public static BoostSettings compile(ConfigurationSection config, Logger log) {
 
+        double boostSpeed = config.getDouble("boost-speed", 1.0);
+        int updateInterval = Math.max(1, config.getInt("update-interval", 2));
+        boolean trailEnabled = config.getBoolean("particle-trail.enabled", true);
+
+        Particle trailType;
         String trailName = config.getString("particle-trail.type", "FLAME").toUpperCase(Locale.ROOT);
         try {
             trailType = Particle.valueOf(trailName);
         } catch (IllegalArgumentException e) {
-            plugin.getLogger().warning("Invalid global particle-trail.type: " + trailName + ". Defaulting to FLAME.");
+            log.warning("Invalid global particle-trail.type: " + trailName + ". Defaulting to FLAME.");
             trailType = Particle.FLAME;
         }
 
-        double refillRate = config.getDouble("refill-rate", 0.02);
-        double drainRate = config.getDouble("drain-rate", 0.00333);
+        // Charge integrates over elapsed time. Configs from before that give per-update amounts
+        // (refill-rate / drain-rate), which are scaled by the update interval they were tuned for.
+        double legacyScale = 20.0 / updateInterval;
+        double refillPerSecond = readRate(config, "refill-per-second", "refill-rate", 0.2, legacyScale);
+        double drainPerSecond = readRate(config, "drain-per-second", "drain-rate", 0.0333, legacyScale);
+
+        EasingCurve easeIn = readCurve(config, "boost-ease-in", EasingCurve.LINEAR, "global", log);
+        EasingCurve easeOut = readCurve(config, "boost-ease-out", EasingCurve.QUADRATIC, "global", log);
 
-        defaultPreset = new BoostPreset();
-        defaultPreset.refillRate = refillRate;
-        defaultPreset.drainRate = drainRate;
+        BoostPreset defaultPreset = new BoostPreset();
+        defaultPreset.name = "default";
+        defaultPreset.easeIn = easeIn;
+        defaultPreset.easeOut = easeOut;
+        defaultPreset.refillPerSecond = refillPerSecond;
+        defaultPreset.drainPerSecond = drainPerSecond;
         defaultPreset.boostSpeed = boostSpeed;
         defaultPreset.particle = trailEnabled ? trailType : null;
 
-        presetMap.clear();
+        List<BoostPreset> presetList = new ArrayList<>();
         ConfigurationSection presets = config.getConfigurationSection("presets");
         if (presets != null) {
             for (String key : presets.getKeys(false)) {
@@ -64,14 +75,19 @@ public class BoostPresetManager {
                 if (section == null) continue;
 
                 BoostPreset preset = new BoostPreset();
-                preset.refillRate = section.getDouble("refill-rate", refillRate);
-                preset.drainRate = section.getDouble("drain-rate", drainRate);
+                preset.name = key;
+                preset.permission = "happyghastboost.preset." + key;
+                preset.priority = section.getInt("priority", 0);
+                preset.refillPerSecond = readRate(section, "refill-per-second", "refill-rate", refillPerSecond, legacyScale);
+                preset.drainPerSecond = readRate(section, "drain-per-second", "drain-rate", drainPerSecond, legacyScale);
+                preset.easeIn = readCurve(section, "ease-in", easeIn, "preset '" + key + "'", log);
+                preset.easeOut = readCurve(section, "ease-out", easeOut, "preset '" + key + "'", log);
 
                 if (section.isDouble("boost-speed")) {
                     preset.boostSpeed = section.getDouble("boost-speed");
 
                     if (preset.boostSpeed > 1.5) {
-                        plugin.getLogger().warning(
+                        log.warning(
                                 "[HappyGhastBoost] Preset '" + key + "' uses a high boost-speed value (" +
                                         preset.boostSpeed + ") — may cause rubberbanding or client desync.");
                     }
@@ -84,7 +100,7 @@ public class BoostPresetManager {
                     try {
                         preset.particle = Particle.valueOf(particleRaw.toUpperCase(Locale.ROOT));
                     } catch (IllegalArgumentException e) {
-                        plugin.getLogger().warning("Invalid particle in preset '" + key + "': " + particleRaw + ". Ignoring.");
+                        log.warning("Invalid particle in preset '" + key + "': " + particleRaw + ". Ignoring.");
                     }
                 }
 
@@ -92,47 +108,261 @@ public class BoostPresetManager {
                     preset.particle = trailType;
                 }
 
-                presetMap.put(key, preset);
+                presetList.add(preset);
+            }
+        }
+
+        // Highest priority wins; equal priorities fall back to name order so the result never depends on YAML hashing.
+        presetList.sort(Comparator.comparingInt((BoostPreset preset) -> preset.priority).reversed()
+                .thenComparing(preset -> preset.name));
+
+        double nearDistance = Math.max(0.0, config.getDouble("particle-trail.near-distance", 24.0));
+        int maxParticlesPerTick = config.getInt("particle-trail.max-particles-per-tick", 120);
+        BoostSettings.TrailLod trailLod = new BoostSettings.TrailLod(
+                nearDistance,
+                Math.max(nearDistance, config.getDouble("particle-trail.max-distance", 64.0)),
+                Math.max(1, config.getInt("particle-trail.near-count", 3)),
+                Math.max(0, config.getInt("particle-trail.far-count", 1)),
+                maxParticlesPerTick > 0 ? maxParticlesPerTick : Integer.MAX_VALUE
+        );
+
+        // Each level's threshold is at least the one below it.
+        double trailsOffMspt = Math.max(1.0, config.getDouble("load-shedding.trails-off-mspt", 40.0));
+        double slowHudMspt = Math.max(trailsOffMspt, config.getDouble("load-shedding.slow-hud-mspt", 44.0));
+        double slowIdleMspt = Math.max(slowHudMspt, config.getDouble("load-shedding.slow-idle-mspt", 47.0));
+        BoostSettings.LoadShedding loadShedding = new BoostSettings.LoadShedding(
+                config.getBoolean("load-shedding.enabled", false),
+                trailsOffMspt,
+                slowHudMspt,
+                slowIdleMspt,
+                Math.max(slowIdleMspt, config.getDouble("load-shedding.speed-cap-mspt", 49.0)),
+                Math.max(0.0, config.getDouble("load-shedding.recover-margin-mspt", 4.0)),
+                Math.max(0L, config.getLong("load-shedding.min-level-seconds", 10L)) * 1000L,
+                Math.max(50L, config.getLong("load-shedding.hud-min-interval-ms", 500L)),
+                Math.max(1, config.getInt("load-shedding.idle-interval-multiplier", 3)),
+                Math.max(0.05, config.getDouble("load-shedding.max-boost-speed", 0.8))
+        );
+
+        BoostSettings.BarStyle barStyle = new BoostSettings.BarStyle(
+                Math.max(1, config.getInt("bar-style.length", 10)),
+                config.getString("bar-style.character-filled", "█"),
+                config.getString("bar-style.character-empty", "░"),
+                config.getString("bar-style.color-filled", "<green>"),
+                config.getString("bar-style.color-empty", "<dark_gray>"),
+                config.getString("bar-style.color-filled-boosting", "<red>")
+        );
+
+        return new BoostSettings(
+                config.getBoolean("require-permission", false),
+                Math.max(1L, config.getLong("permission-refresh-seconds", 30L)) * 1000L,
+                boostSpeed,
+                Math.max(1L, config.getLong("boost-rampup-speed-ms", 1500L)),
+                Math.max(0L, config.getLong("boost-slowdown-ms", 600L)),
+                Math.max(0.0, config.getDouble("velocity-epsilon", 0.02)),
+                new BoostSettings.Lookahead(
+                        config.getBoolean("terrain-lookahead.enabled", false),
+                        Math.max(1.0, Math.min(64.0, config.getDouble("terrain-lookahead.distance", 16.0))),
+                        Math.max(50L, config.getLong("terrain-lookahead.snapshot-max-age-ms", 2000L)),
+                        parseLookaheadAction(config.getString("terrain-lookahead.action", "SLOWDOWN"), log)
+                ),
+                new BoostSettings.ChunkPreload(
+                        config.getBoolean("chunk-preload.enabled", false),
+                        Math.max(0.5, config.getDouble("chunk-preload.lookahead-seconds", 3.0)),
+                        Math.max(1, config.getInt("chunk-preload.max-queued-per-world", 64)),
+                        Math.max(1, config.getInt("chunk-preload.max-in-flight-per-world", 4)),
+                        Math.max(1L, config.getLong("chunk-preload.ticket-seconds", 10L)) * 1000L,
+                        Math.max(0.0, config.getDouble("chunk-preload.governor.min-lead-seconds", 1.5)),
+                        Math.max(0.0, Math.min(1.0, config.getDouble("chunk-preload.governor.min-speed-factor", 0.3)))
+                ),
+                loadShedding,
+                readZones(config, log),
+                config.getLong("forward-hold-ms", 1200L),
+                config.getDouble("forward-dot-threshold", 0.85),
+                config.getDouble("min-forward-speed", 0.01),
+                config.getLong("boost-misalignment-grace-ms", 300L),
+                parseTriggerMode(config.getString("trigger-mode", "MOVEMENT"), log),
+                config.getBoolean("sprint-triggers-boost", true),
+                updateInterval,
+                Math.max(updateInterval, config.getInt("idle-update-interval", 10)),
+                parseSchedulerMode(config.getString("scheduler-mode", "AUTO"), log),
+                Math.max(0, config.getInt("parallel-pilot-threshold", 256)),
+                Math.max(0, config.getInt("max-pilots", 0)),
+                Math.max(0.0, config.getDouble("charge-save.min-change", 0.05)),
+                Math.max(1, config.getInt("charge-save.max-writes-per-tick", 8)),
+                trailEnabled,
+                trailType,
+                trailLod,
+                config.getBoolean("verbose-debug", false),
+                config.getString("actionbar-format", "<label> <bar> <percent>%"),
+                Math.max(50L, config.getLong("actionbar-keepalive-ms", 2000L)),
+                barStyle,
+                new BoostSettings.MetricsExport(
+                        config.getBoolean("metrics-export.enabled", false),
+                        Math.max(1L, config.getLong("metrics-export.interval-seconds", 15L)),
+                        config.getString("metrics-export.file", "metrics.prom")
+                ),
+                new BoostSettings.FlightStats(
+                        config.getBoolean("flight-stats.enabled", false),
+                        config.getString("flight-stats.file", "flight-stats.db"),
+                        Math.max(1L, config.getLong("flight-stats.flush-interval-seconds", 30L)) * 1000L,
+                        Math.max(64, config.getInt("flight-stats.queue-capacity", 4096)),
+                        Math.max(1, Math.min(100, config.getInt("flight-stats.top-size", 10)))
+                ),
+                new BoostSettings.FlightRecording(
+                        config.getBoolean("flight-recorder.enabled", false),
+                        config.getString("flight-recorder.file", "flight-recording.bin"),
+                        // One mapped buffer holds at most 2 GiB of 64-byte samples.
+                        Math.max(1024, Math.min(30_000_000, config.getInt("flight-recorder.max-samples", 262_144)))
+                ),
+                defaultPreset,
+                List.copyOf(presetList)
+        );
+    }
+
+    private static double readRate(ConfigurationSection section, String key, String legacyKey,
+                                   double fallback, double legacyScale) {
+        if (section.contains(key, true)) return section.getDouble(key);
+        if (section.contains(legacyKey, true)) return section.getDouble(legacyKey) * legacyScale;
+        return section.getDouble(key, fallback);
+    }
+
+    /**
+     * A curve name, or a list of evenly spaced speed points for a custom curve. Falls back when missing or invalid.
+     */
+    private static EasingCurve readCurve(ConfigurationSection section, String key, EasingCurve fallback, String owner, Logger log) {
+        if (section.isList(key)) {
+            try {
+                return EasingCurve.points(section.getDoubleList(key));
+            } catch (IllegalArgumentException e) {
+                log.warning("Invalid " + key + " points in " + owner + ": " + e.getMessage() + ". Using " + fallback + ".");
+                return fallback;
             }
         }
 
-        plugin.getLogger().info("HappyGhastBoost settings loaded. " + presetMap.size() + " presets available.");
+        String raw = section.getString(key, "");
+        if (raw.isBlank()) return fallback;
+
+        EasingCurve curve = EasingCurve.named(raw);
+        if (curve == null) {
+            log.warning("Invalid " + key + " in " + owner + ": '" + raw + "'. Using " + fallback + ".");
+            return fallback;
+        }
+        return curve;
+    }
+
+    /**
+     * The zones.areas section, compiled into a grid of zones.cell-size blocks. Invalid areas are skipped.
+     */
+    private static ZoneIndex readZones(ConfigurationSection config, Logger log) {
+        ConfigurationSection areas = config.getConfigurationSection("zones.areas");
+        if (areas == null) return ZoneIndex.EMPTY;
+
+        List<ZoneIndex.Zone> zones = new ArrayList<>();
+        for (String key : areas.getKeys(false)) {
+            ConfigurationSection section = areas.getConfigurationSection(key);
+            if (section == null) continue;
+
+            String world = section.getString("world", "").trim();
+            List<Double> first = section.getDoubleList("corner1");
+            List<Double> second = section.getDoubleList("corner2");
+            boolean column = first.size() == 2 && second.size() == 2;
+            if (world.isEmpty() || (!column && (first.size() != 3 || second.size() != 3))) {
+                log.warning("Invalid zone '" + key + "': needs a world and corner1/corner2 as [x, z] or [x, y, z]. Ignoring.");
+                continue;
+            }
+
+            // Corners are block positions and both are inside the zone, so the far side extends one block.
+            int zIndex = column ? 1 : 2;
+            ZoneIndex.Effect effect = new ZoneIndex.Effect(
+                    section.getBoolean("no-boost", false),
+                    section.contains("max-boost-speed") ? Math.max(0.0, section.getDouble("max-boost-speed")) : Double.POSITIVE_INFINITY,
+                    Math.max(0.0, section.getDouble("refill-multiplier", 1.0)),
+                    Math.max(0.0, section.getDouble("drain-multiplier", 1.0))
+            );
+            zones.add(new ZoneIndex.Zone(
+                    key,
+                    world,
+                    Math.floor(Math.min(first.get(0), second.get(0))),
+                    column ? Double.NEGATIVE_INFINITY : Math.floor(Math.min(first.get(1), second.get(1))),
+                    Math.floor(Math.min(first.get(zIndex), second.get(zIndex))),
+                    Math.floor(Math.max(first.get(0), second.get(0))) + 1.0,
+                    column ? Double.POSITIVE_INFINITY : Math.floor(Math.max(first.get(1), second.get(1))) + 1.0,
+                    Math.floor(Math.max(first.get(zIndex), second.get(zIndex))) + 1.0,
+                    effect
+            ));
+        }
+
+        ZoneIndex index = ZoneIndex.build(Math.max(8, config.getInt("zones.cell-size", 64)), zones);
+        if (!index.isEmpty()) {
+            log.info("Loaded " + index.size() + " boost zones.");
+        }
+        return index;
+    }
+
+    private static BoostSettings.TriggerMode parseTriggerMode(String raw, Logger log) {
+        try {
+            return BoostSettings.TriggerMode.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            log.warning("❌ Invalid trigger-mode in config.yml: '" + raw + "'. Defaulting to MOVEMENT.");
+            return BoostSettings.TriggerMode.MOVEMENT;
+        }
+    }
+
+    private static BoostSettings.LookaheadAction parseLookaheadAction(String raw, Logger log) {
+        try {
+            return BoostSettings.LookaheadAction.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            log.warning("❌ Invalid terrain-lookahead.action in config.yml: '" + raw + "'. Defaulting to SLOWDOWN.");
+            return BoostSettings.LookaheadAction.SLOWDOWN;
+        }
+    }
+
+    private static BoostSettings.SchedulerMode parseSchedulerMode(String raw, Logger log) {
+        try {
+            return BoostSettings.SchedulerMode.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            log.warning("❌ Invalid scheduler-mode in config.yml: '" + raw + "'. Defaulting to AUTO.");
+            return BoostSettings.SchedulerMode.AUTO;
+        }
     }
 
     // ======================
     // 🔍 Get matching preset for player
     // ======================
+
+    /**
+     * The highest-priority preset the player has permission for. Does permission lookups, so callers cache
+     * the result per pilot instead of calling this every tick.
+     */
     public BoostPreset getPresetFor(Player player) {
-        for (String key : presetMap.keySet()) {
-            if (player.hasPermission("happyghastboost.preset." + key)) {
-                return presetMap.get(key);
+        BoostSettings current = settings;
+        for (BoostPreset preset : current.presets()) {
+            if (player.hasPermission(preset.permission)) {
+                return preset;
             }
         }
-        return defaultPreset;
+        return current.defaultPreset();
     }
 
     // ======================
     // 🔓 Config value accessors
     // ======================
-    public double getBoostSpeed() {
-        return boostSpeed;
-    }
-
-    public int getUpdateInterval() {
-        return updateInterval;
-    }
-
-    public boolean isTrailEnabled() {
-        return trailEnabled;
+    public BoostSettings getSettings() {
+        return settings;
     }
 
     // ======================
     // 🎛️ BoostPreset Structure
     // ======================
     public static class BoostPreset {
-        public double refillRate;
-        public double drainRate;
+        public String name;
+        public String permission; // null for the default preset
+        public int priority;
+        public double refillPerSecond;
+        public double drainPerSecond;
         public double boostSpeed;
         public Particle particle;
+        public EasingCurve easeIn;
+        public EasingCurve easeOut;
     }
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.github.arzormc.happyghastboost.config;
+
+import org.bukkit.Particle;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of config.yml, compiled once by {@link BoostPresetManager#loadSettings()}.
+ * The tick loop reads every value from here instead of walking the YAML tree.
+ */
+public record BoostSettings(
+        boolean requirePermission,
+        long permissionRefreshMs,
+        double boostSpeed,
+        long rampUpMs,
+        long slowdownMs,
+        double velocityEpsilon,
+        Lookahead lookahead,
+        ChunkPreload chunkPreload,
+        LoadShedding loadShedding,
+        ZoneIndex zones,
+        long forwardHoldMs,
+        double forwardDotThreshold,
+        double minForwardSpeed,
+        long misalignmentGraceMs,
+        TriggerMode triggerMode,
+        boolean sprintTriggersBoost,
+        int updateInterval,
+        int idleUpdateInterval,
+        SchedulerMode schedulerMode,
+        int parallelPilotThreshold,
+        int maxPilots,
+        double persistDelta,
+        int persistWritesPerTick,
+        boolean trailEnabled,
+        Particle trailType,
+        TrailLod trailLod,
+        boolean verboseDebug,
+        String actionbarFormat,
+        long actionbarKeepAliveMs,
+        BarStyle barStyle,
+        MetricsExport metricsExport,
+        FlightStats flightStats,
+        FlightRecording flightRecording,
+        BoostPresetManager.BoostPreset defaultPreset,
+        List<BoostPresetManager.BoostPreset> presets // highest priority first
+) {
+
+    // ======================
+    // 🎯 Boost Trigger
+    // ======================
+    public enum TriggerMode {MOVEMENT, INPUT}
+
+    // ======================
+    // 🧵 Scheduling Backend
+    // ======================
+    public enum SchedulerMode {AUTO, CLASSIC, REGION}
+
+    // ======================
+    // ✨ Trail Level of Detail
+    // ======================
+    public record TrailLod(
+            double nearDistance,
+            double maxDistance,
+            int nearCount,
+            int farCount,
+            int maxParticlesPerTick
+    ) {
+    }
+
+    // ======================
+    // 🏔️ Terrain Lookahead
+    // ======================
+    public enum LookaheadAction {SLOWDOWN, CANCEL}
+
+    public record Lookahead(boolean enabled, double distance, long snapshotMaxAgeMs, LookaheadAction action) {
+
+        public boolean slowDown() {
+            return action == LookaheadAction.SLOWDOWN;
+        }
+    }
+
+    // ======================
+    // 🗺️ Chunk Preloading
+    // ======================
+    public record ChunkPreload(
+            boolean enabled,
+            double lookaheadSeconds,
+            int maxQueuedPerWorld,
+            int maxInFlightPerWorld,
+            long ticketMs,
+            double minLeadSeconds,  // 0 = governor off
+            double minSpeedFactor
+    ) {
+    }
+
+    // ======================
+    // 🚦 Load Shedding
+    // ======================
+    public record LoadShedding(
+            boolean enabled,
+            double trailsOffMspt,
+            double slowHudMspt,
+            double slowIdleMspt,
+            double speedCapMspt,
+            double recoverMarginMspt,
+            long minLevelMs,
+            long hudMinIntervalMs,
+            int idleIntervalMultiplier,
+            double maxBoostSpeed
+    ) {
+    }
+
+    // ======================
+    // 📈 Metrics Export
+    // ======================
+    public record MetricsExport(boolean enabled, long intervalSeconds, String file) {
+    }
+
+    // ======================
+    // 🏆 Flight Stats
+    // ======================
+    public record FlightStats(boolean enabled, String file, long flushIntervalMs, int queueCapacity, int topSize) {
+    }
+
+    // ======================
+    // 📼 Flight Recorder
+    // ======================
+    public record FlightRecording(boolean enabled, String file, int maxSamples) {
+    }
+
+    // ======================
+    // 🎨 Bar Style
+    // ======================
+    public record BarStyle(
+            int length,
+            String characterFilled,
+            String characterEmpty,
+            String colorFilled,
+            String colorEmpty,
+            String colorFilledBoosting
+    ) {
+    }
+}
@@ -0,0 +1,203 @@
+package com.github.arzormc.happyghastboost.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * No-boost and speed-limit zones from config.yml, compiled into a uniform grid per world.
+ * <p>
+ * Every grid cell a zone touches remembers it: as covering if the zone spans the whole cell column,
+ * otherwise as partial. A pilot resolves its cell once when it crosses a cell boundary; inside a cell with
+ * no partial zones the effect is a constant, and otherwise only the few partial zones are tested.
+ * <p>
+ * A zone spanning more than {@value #MAX_CELLS_PER_ZONE} cells isn't spread over the grid, which could take
+ * billions of entries for a world-sized zone. It is kept in its world's list of wide zones instead, and
+ * tested like a partial zone everywhere in that world.
+ */
+public final class ZoneIndex {
+
+    public static final ZoneIndex EMPTY = new ZoneIndex(64, Map.of(), Map.of(), 0);
+
+    static final int MAX_CELLS_PER_ZONE = 16_384;
+
+    // ======================
+    // 🧭 Zones & Effects
+    // ======================
+
+    /**
+     * What a zone does to pilots inside it. Overlapping zones combine to the most restrictive value of each.
+     */
+    public record Effect(boolean noBoost, double maxBoostSpeed, double refillMultiplier, double drainMultiplier) {
+
+        public static final Effect NONE = new Effect(false, Double.POSITIVE_INFINITY, 1.0, 1.0);
+
+        Effect combine(Effect other) {
+            if (this == NONE) return other;
+            return new Effect(
+                    noBoost || other.noBoost,
+                    Math.min(maxBoostSpeed, other.maxBoostSpeed),
+                    Math.min(refillMultiplier, other.refillMultiplier),
+                    Math.max(drainMultiplier, other.drainMultiplier)
+            );
+        }
+    }
+
+    /**
+     * An axis-aligned box, inclusive of its min block and exclusive of its max, in block coordinates.
+     */
+    public record Zone(String name, String world, double minX, double minY, double minZ,
+                       double maxX, double maxY, double maxZ, Effect effect) {
+
+        boolean contains(double x, double y, double z) {
+            return x >= minX && x < maxX && z >= minZ && z < maxZ && y >= minY && y < maxY;
+        }
+
+        boolean isColumn() {
+            return minY == Double.NEGATIVE_INFINITY && maxY == Double.POSITIVE_INFINITY;
+        }
+    }
+
+    /**
+     * Zones of one grid cell.
+     */
+    public static final class Cell {
+        private final Effect covering;
+        private final Zone[] partial;
+
+        private Cell(Effect covering, Zone[] partial) {
+            this.covering = covering;
+            this.partial = partial;
+        }
+
+        /**
+         * True if every point of the cell gets the same effect, so it only changes at a cell boundary.
+         */
+        public boolean isUniform() {
+            return partial.length == 0;
+        }
+
+        public Effect covering() {
+            return covering;
+        }
+    }
+
+    private final int cellSize;
+    private final Map<String, Map<Long, Cell>> worlds;
+    private final Map<String, Cell> wide; // per world: the cell of every grid position no narrow zone touches
+    private final int zoneCount;
+
+    private ZoneIndex(int cellSize, Map<String, Map<Long, Cell>> worlds, Map<String, Cell> wide, int zoneCount) {
+        this.cellSize = cellSize;
+        this.worlds = worlds;
+        this.wide = wide;
+        this.zoneCount = zoneCount;
+    }
+
+    // ======================
+    // 🏗️ Compile
+    // ======================
+    public static ZoneIndex build(int cellSize, List<Zone> zones) {
+        if (zones.isEmpty()) return EMPTY;
+
+        Map<String, Map<Long, List<Zone>>> coveringByCell = new HashMap<>();
+        Map<String, Map<Long, List<Zone>>> partialByCell = new HashMap<>();
+        Map<String, List<Zone>> wideByWorld = new HashMap<>();
+
+        for (Zone zone : zones) {
+            int minCellX = Math.floorDiv((int) Math.floor(zone.minX()), cellSize);
+            int maxCellX = Math.floorDiv((int) Math.ceil(zone.maxX()) - 1, cellSize);
+            int minCellZ = Math.floorDiv((int) Math.floor(zone.minZ()), cellSize);
+            int maxCellZ = Math.floorDiv((int) Math.ceil(zone.maxZ()) - 1, cellSize);
+            if (((long) maxCellX - minCellX + 1) * ((long) maxCellZ - minCellZ + 1) > MAX_CELLS_PER_ZONE) {
+                wideByWorld.computeIfAbsent(zone.world(), world -> new ArrayList<>()).add(zone);
+                continue;
+            }
+
+            for (int cx = minCellX; cx <= maxCellX; cx++) {
+                for (int cz = minCellZ; cz <= maxCellZ; cz++) {
+                    boolean covers = zone.isColumn()
+                            && zone.minX() <= (double) cx * cellSize && zone.maxX() >= (double) (cx + 1) * cellSize
+                            && zone.minZ() <= (double) cz * cellSize && zone.maxZ() >= (double) (cz + 1) * cellSize;
+                    Map<String, Map<Long, List<Zone>>> target = covers ? coveringByCell : partialByCell;
+                    target.computeIfAbsent(zone.world(), world -> new HashMap<>())
+                            .computeIfAbsent(key(cx, cz), key -> new ArrayList<>())
+                            .add(zone);
+                }
+            }
+        }
+
+        Map<String, Map<Long, Cell>> worlds = new HashMap<>();
+        Map<String, Cell> wide = new HashMap<>();
+        for (Zone zone : zones) {
+            worlds.computeIfAbsent(zone.world(), world -> new HashMap<>());
+        }
+        for (Map.Entry<String, Map<Long, Cell>> world : worlds.entrySet()) {
+            Map<Long, List<Zone>> covering = coveringByCell.getOrDefault(world.getKey(), Map.of());
+            Map<Long, List<Zone>> partial = partialByCell.getOrDefault(world.getKey(), Map.of());
+            List<Zone> wideZones = wideByWorld.getOrDefault(world.getKey(), List.of());
+            if (!wideZones.isEmpty()) {
+                wide.put(world.getKey(), new Cell(Effect.NONE, wideZones.toArray(Zone[]::new)));
+            }
+
+            List<Long> keys = new ArrayList<>(covering.keySet());
+            for (Long key : partial.keySet()) {
+                if (!covering.containsKey(key)) keys.add(key);
+            }
+
+            Map<Long, Cell> cells = world.getValue();
+            for (Long key : keys) {
+                Effect effect = Effect.NONE;
+                for (Zone zone : covering.getOrDefault(key, List.of())) {
+                    effect = effect.combine(zone.effect());
+                }
+                List<Zone> tested = new ArrayList<>(partial.getOrDefault(key, List.of()));
+                tested.addAll(wideZones);
+                cells.put(key, new Cell(effect, tested.toArray(Zone[]::new)));
+            }
+        }
+        return new ZoneIndex(cellSize, Map.copyOf(worlds), Map.copyOf(wide), zones.size());
+    }
+
+    // ======================
+    // 🔍 Lookup
+    // ======================
+    public boolean isEmpty() {
+        return zoneCount == 0;
+    }
+
+    public int size() {
+        return zoneCount;
+    }
+
+    public long cellKey(double x, double z) {
+        return key(Math.floorDiv((int) Math.floor(x), cellSize), Math.floorDiv((int) Math.floor(z), cellSize));
+    }
+
+    /**
+     * The zones of the cell, or null if no zone touches it.
+     */
+    public Cell cellAt(String world, long cellKey) {
+        Map<Long, Cell> cells = worlds.get(world);
+        Cell cell = cells != null ? cells.get(cellKey) : null;
+        return cell != null ? cell : wide.get(world);
+    }
+
+    /**
+     * The combined effect at a point inside {@code cell}.
+     */
+    public Effect effectAt(Cell cell, double x, double y, double z) {
+        Effect effect = cell.covering;
+        for (Zone zone : cell.partial) {
+            if (zone.contains(x, y, z)) {
+                effect = effect.combine(zone.effect());
+            }
+        }
+        return effect;
+    }
+
+    private static long key(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+}
@@ -13,7 +13,12 @@ import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.event.entity.EntityDismountEvent;
 import org.bukkit.event.entity.EntityMountEvent;
 import org.bukkit.event.entity.EntityTeleportEvent;
+import org.bukkit.event.player.PlayerInputEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.bukkit.event.world.WorldSaveEvent;
 import org.bukkit.persistence.PersistentDataType;
 
 import java.util.List;
@@ -52,37 +57,49 @@ public class BoostEventListener implements Listener {
         UUID ghastId = ghast.getUniqueId();
         UUID playerId = player.getUniqueId();
 
-        if (playerId.equals(manager.getPilotManager().getGhastToPilotMap().get(ghastId))) {
+        if (playerId.equals(manager.getPilotManager().getPilotOf(ghastId))) {
 
             manager.getChargeStorage().persistChargeToPDC(ghast, player);
             manager.getPilotManager().unregisterPilot(player);
 
-            Bukkit.getScheduler().runTask(plugin, () -> {
+            ghast.getScheduler().run(plugin, task -> {
                 List<Entity> passengers = ghast.getPassengers();
                 if (!passengers.isEmpty() && passengers.getFirst() instanceof Player newPilot) {
                     manager.getPilotManager().registerPilot(newPilot, ghast);
                     manager.getLogger().logBasic("Pilot", "Pilot reassigned to %s 1 tick after dismount.", newPilot.getName());
                 }
-            });
+            }, null);
         }
     }
 
+    @EventHandler
+    public void onPlayerInput(PlayerInputEvent event) {
+        manager.getTickTasks().onInput(event.getPlayer(), event.getInput());
+    }
+
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        manager.getTrailRenderer().load(event.getPlayer());
+        manager.getPilotManager().invalidatePermissions(event.getPlayer());
+    }
+
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
+        manager.getTrailRenderer().forget(player.getUniqueId());
 
-        Entity vehicle = player.getVehicle();
-        if (vehicle instanceof HappyGhast ghast) {
+        HappyGhast ghast = manager.getPilotManager().getGhastOf(player);
+        if (ghast != null) {
 
             manager.getChargeStorage().persistChargeToPDC(ghast, player);
 
-            Bukkit.getScheduler().runTask(plugin, () -> {
+            ghast.getScheduler().run(plugin, task -> {
                 List<Entity> passengers = ghast.getPassengers();
                 if (!passengers.isEmpty() && passengers.getFirst() instanceof Player newPilot) {
                     manager.getPilotManager().registerPilot(newPilot, ghast);
                     manager.getLogger().logBasic("Pilot", "Pilot reassigned to %s after %s quit.", newPilot.getName(), player.getName());
                 }
-            });
+            }, null);
 
             manager.getPilotManager().unregisterPilot(player);
         }
@@ -93,7 +110,9 @@ public class BoostEventListener implements Listener {
         Entity entity = event.getEntity();
         if (!(entity instanceof HappyGhast ghast)) return;
 
+        manager.getPilotManager().shipFlightStats(ghast.getUniqueId());
         UUID pilotId = manager.getChargeStorage().clearGhastDataOnDeath(ghast);
+        manager.getTickTasks().onPilotUnregistered(ghast.getUniqueId());
 
         if (pilotId != null) {
             Player pilot = Bukkit.getPlayer(pilotId);
@@ -106,6 +125,26 @@ public class BoostEventListener implements Listener {
         }
     }
 
+    // ======================
+    // 💾 Chunk Load & World Save
+    // ======================
+
+    @EventHandler
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        manager.getChargeStorage().hydrate(event.getEntities());
+    }
+
+    @EventHandler
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        manager.getChargeStorage().evict(event.getEntities());
+    }
+
+    @EventHandler
+    public void onWorldSave(WorldSaveEvent event) {
+        // Write pending charge alongside the world, so a crash loses at most one flush window.
+        manager.getChargeStorage().flushAll(event.getWorld());
+    }
+
     // ======================
     // 🌍 World Change Handling
     // ======================
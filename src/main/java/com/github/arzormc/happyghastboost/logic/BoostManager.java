@@ -2,167 +2,180 @@ package com.github.arzormc.happyghastboost.logic;
 
 import com.github.arzormc.happyghastboost.HappyGhastBoost;
 import com.github.arzormc.happyghastboost.config.BoostPresetManager;
+import com.github.arzormc.happyghastboost.config.BoostSettings;
+import com.github.arzormc.happyghastboost.util.ActionBarFrameCache;
 import com.github.arzormc.happyghastboost.util.BoostLogger;
-import com.github.arzormc.happyghastboost.util.MessageUtil;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
-import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
-import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import com.github.arzormc.happyghastboost.util.BoostMetrics;
+import com.github.arzormc.happyghastboost.util.FlightStatsStore;
+import com.github.arzormc.happyghastboost.util.MetricsExporter;
 
 import org.bukkit.*;
-import org.bukkit.entity.Entity;
-import org.bukkit.entity.HappyGhast;
 import org.bukkit.entity.Player;
 import org.bukkit.event.*;
-import org.bukkit.util.Vector;
 
-import java.util.*;
 
 public class BoostManager implements Listener {
 
+    // Spare pilot slots above the server's player limit, for players let in over it.
+    private static final int PILOT_HEADROOM = 16;
+
     private final HappyGhastBoost plugin;
 
     private final NamespacedKey CHARGE_KEY;
 
-    private final Map<UUID, BoostState> boostStates = new HashMap<>();
+    private final PilotRegistry pilots;
 
     private final BoostLogger logger;
+    private final BoostMetrics metrics;
+    private final MetricsExporter metricsExporter;
+    private final FlightStatsStore flightStats;
+    private final FlightRecorder flightRecorder;
     private final ChargeStorage chargeStorage;
     private final PilotManager pilotManager;
 
-    private final Map<UUID, String> lastBarSnapshot = new HashMap<>();
-    private final Map<UUID, String> lastDotSpeedSnapshot = new HashMap<>();
+    private final BoostPresetManager presetManager;
+    private final BoostStateMachine stateMachine;
+    private final TrailRenderer trailRenderer;
+    private final TickProfiler profiler;
+    private final TerrainLookahead terrainLookahead;
+    private final ChunkPreloader chunkPreloader;
+    private final LoadGovernor loadGovernor;
+    private final BoostTickTasks tickTasks;
 
-    private final double boostSpeed;
-    private final int updateInterval;
-    private final boolean trailEnabled;
+    private volatile ActionBarFrameCache hudFrames;
 
     public BoostManager(HappyGhastBoost plugin, BoostPresetManager presetManager) {
         this.plugin = plugin;
         this.CHARGE_KEY = new NamespacedKey(plugin, "boost_charge");
-
-        this.boostSpeed = presetManager.getBoostSpeed();
-        this.updateInterval = presetManager.getUpdateInterval();
-        this.trailEnabled = presetManager.isTrailEnabled();
+        this.presetManager = presetManager;
 
         this.logger = new BoostLogger(plugin);
         this.logger.loadLoggingMode();
 
-        this.chargeStorage = new ChargeStorage(plugin, boostStates, new HashMap<>(), logger);
-        this.pilotManager = new PilotManager(logger, presetManager, chargeStorage, boostStates);
+        // Sized once: growing would swap arrays out from under region threads ticking their own slots.
+        int maxPilots = presetManager.getSettings().maxPilots();
+        this.pilots = new PilotRegistry(maxPilots > 0 ? maxPilots : plugin.getServer().getMaxPlayers() + PILOT_HEADROOM);
+        this.metrics = new BoostMetrics();
+        this.metrics.setGauges(pilots::size, pilots::boostingCount);
+        this.metricsExporter = new MetricsExporter(plugin, metrics, logger);
+        this.flightStats = new FlightStatsStore(plugin, logger);
+        this.flightRecorder = new FlightRecorder(plugin, logger);
+
+        this.chargeStorage = new ChargeStorage(plugin, pilots, logger, metrics);
+        this.loadGovernor = new LoadGovernor(this);
+        this.stateMachine = new BoostStateMachine(pilots, logger, metrics, loadGovernor);
+        this.trailRenderer = new TrailRenderer(plugin, metrics);
+        this.profiler = new TickProfiler(plugin);
+        this.terrainLookahead = new TerrainLookahead(plugin);
+        this.chunkPreloader = new ChunkPreloader(this);
+        for (Player online : plugin.getServer().getOnlinePlayers()) {
+            trailRenderer.load(online); // /reload with players online
+        }
+        this.tickTasks = new BoostTickTasks(this);
+        this.pilotManager = new PilotManager(logger, presetManager, chargeStorage, tickTasks, pilots, flightStats);
+        this.hudFrames = new ActionBarFrameCache(getSettings());
     }
 
     public void reloadSettings() {
         plugin.reloadConfig();
+        logger.loadLoggingMode();
+
+        BoostSettings previous = getSettings();
+        presetManager.loadSettings();
+        BoostSettings settings = getSettings();
+
+        hudFrames = new ActionBarFrameCache(settings);
+        pilotManager.reapplyPresets();
+        metricsExporter.apply(settings.metricsExport());
+        flightStats.apply(settings.flightStats());
+        flightRecorder.apply(settings.flightRecording());
+
+        if (settings.schedulerMode() != previous.schedulerMode()) {
+            tickTasks.restart();
+            logger.logDebug("Config", "Scheduler %s → %s. Boost loop rescheduled.",
+                    previous.schedulerMode(), settings.schedulerMode());
+        }
+
         logger.logDebug("Config", "Settings reloaded from config.yml and messages.yml.");
     }
 
     // ======================
-    // 🧠 Boost Mechanics
+    // 📤 Public Helpers for EventListener
     // ======================
-    public void applyBoost(Player player, BoostState state) {
-        Entity vehicle = player.getVehicle();
-        if (vehicle instanceof HappyGhast ghast) {
-            if (!ghast.isValid()) return;
 
-            Vector direction = player.getLocation().getDirection().normalize();
-
-            long rampUpDuration = plugin.getConfig().getLong("boost-rampup-speed-ms", 1500L);
-            long elapsed = System.currentTimeMillis() - state.boostStartTime;
-
-            double progress = Math.min(1.0, (double) elapsed / rampUpDuration);
-            double adjustedSpeed = boostSpeed * progress;
-
-            Vector velocity = direction.multiply(adjustedSpeed);
-            ghast.setVelocity(velocity);
-
-            if (trailEnabled) {
-                Location loc = ghast.getLocation().add(0, 0.5, 0);
-                player.getWorld().spawnParticle(state.particle, loc, 3, 0.1, 0.1, 0.1, 0);
-                logger.logVerbose("Particles", "Spawned particle %s at %s", state.particle, loc.toVector());
-            }
-
-            logger.logVerbose("Velocity", "Applied velocity to ghast: %s", velocity);
-        }
+    public HappyGhastBoost getPlugin() {
+        return plugin;
     }
 
-    public void updateActionBar(Player player, BoostState state) {
-        if (plugin.getConfig().getBoolean("require-permission", false)
-                && !player.hasPermission("happyghastboost.use")) {
-            return;
-        }
-
-        if (state == null) return;
+    public NamespacedKey getChargeKey() {
+        return CHARGE_KEY;
+    }
 
-        double percent = state.charge;
-        boolean boosting = state.boosting;
+    public ChargeStorage getChargeStorage() {
+        return chargeStorage;
+    }
 
-        String labelKey = boosting
-                ? "boosting"
-                : (percent >= 1.0 ? "boost-ready" : "charging");
+    public PilotManager getPilotManager() {
+        return pilotManager;
+    }
 
-        Component label = MessageUtil.get(labelKey);
-        String bar = MessageUtil.buildBoostBar(plugin, percent, boosting);
-        String percentStr = String.valueOf((int) (percent * 100));
+    public PilotRegistry getPilots() {
+        return pilots;
+    }
 
-        TagResolver resolver = TagResolver.builder()
-                .resolver(Placeholder.component("label", label))
-                .resolver(Placeholder.parsed("bar", bar))
-                .resolver(Placeholder.unparsed("percent", percentStr))
-                .build();
+    public BoostSettings getSettings() {
+        return presetManager.getSettings();
+    }
 
-        String format = plugin.getConfig().getString("actionbar-format", "<label> <bar> <percent>%");
+    public BoostTickTasks getTickTasks() {
+        return tickTasks;
+    }
 
-        player.sendActionBar(MiniMessage.miniMessage().deserialize(format, resolver));
+    public BoostLogger getLogger() {
+        return logger;
+    }
 
-        if (plugin.getConfig().getBoolean("verbose-debug")) {
-            UUID uuid = player.getUniqueId();
-            int roundedPercent = (int) (percent * 100 / 5) * 5;
-            String logSnapshot = "charge~" + roundedPercent + "% boosting=" + boosting;
+    public TrailRenderer getTrailRenderer() {
+        return trailRenderer;
+    }
 
-            String last = lastBarSnapshot.get(uuid);
-            if (!logSnapshot.equals(last)) {
-                lastBarSnapshot.put(uuid, logSnapshot);
-                if (!logger.isThrottled("actionbar-" + uuid, 250)) {
-                    logger.logVerbose("HUD", "ActionBar update → %s: %s", player.getName(), logSnapshot);
-                }
-            }
-        }
+    public LoadGovernor getLoadGovernor() {
+        return loadGovernor;
     }
 
-    // ======================
-    // 📤 Public Helpers for EventListener
-    // ======================
+    ChunkPreloader getChunkPreloader() {
+        return chunkPreloader;
+    }
 
-    public HappyGhastBoost getPlugin() {
-        return plugin;
+    TerrainLookahead getTerrainLookahead() {
+        return terrainLookahead;
     }
 
-    public NamespacedKey getChargeKey() {
-        return CHARGE_KEY;
+    public TickProfiler getProfiler() {
+        return profiler;
     }
 
-    public ChargeStorage getChargeStorage() {
-        return chargeStorage;
+    public BoostMetrics getMetrics() {
+        return metrics;
     }
 
-    public PilotManager getPilotManager() {
-        return pilotManager;
+    public MetricsExporter getMetricsExporter() {
+        return metricsExporter;
     }
 
-    public Map<UUID, BoostState> getBoostStates() {
-        return boostStates;
+    public FlightStatsStore getFlightStats() {
+        return flightStats;
     }
 
-    public Map<UUID, String> getLastDotSpeedSnapshot() {
-        return lastDotSpeedSnapshot;
+    public FlightRecorder getFlightRecorder() {
+        return flightRecorder;
     }
 
-    public int getUpdateInterval() {
-        return updateInterval;
+    BoostStateMachine getStateMachine() {
+        return stateMachine;
     }
 
-    public BoostLogger getLogger() {
-        return logger;
+    ActionBarFrameCache getHudFrames() {
+        return hudFrames;
     }
 }
\ No newline at end of file
@@ -0,0 +1,405 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import com.github.arzormc.happyghastboost.config.BoostSettings;
+import com.github.arzormc.happyghastboost.config.ZoneIndex;
+import com.github.arzormc.happyghastboost.util.ActionBarFrameCache;
+import com.github.arzormc.happyghastboost.util.BoostLogger;
+import com.github.arzormc.happyghastboost.util.BoostMetrics;
+import com.github.arzormc.happyghastboost.util.TrigTable;
+import net.kyori.adventure.text.Component;
+
+/**
+ * The boost rules for one pilot per call: forward detection, the hold/trigger/grace state machine,
+ * charge integration, velocity and HUD frame selection.
+ * <p>
+ * Reads only a {@link TickFrame} snapshot and the pilot's registry slot and writes only that slot and
+ * frame entry, never Bukkit objects, so different pilots can be stepped on different threads.
+ */
+final class BoostStateMachine {
+
+    static final long MS_PER_TICK = 50L;
+    // Longest gap charge is integrated over, so a stall doesn't drain a boost in one step.
+    private static final long MAX_STEP_MS = 1000L;
+
+    private final PilotRegistry pilots;
+    private final BoostLogger logger;
+    private final BoostMetrics metrics;
+    private final LoadGovernor loadGovernor;
+
+    BoostStateMachine(PilotRegistry pilots, BoostLogger logger, BoostMetrics metrics, LoadGovernor loadGovernor) {
+        this.pilots = pilots;
+        this.logger = logger;
+        this.metrics = metrics;
+        this.loadGovernor = loadGovernor;
+    }
+
+    // ======================
+    // 🔁 Step
+    // ======================
+
+    /**
+     * Advances the pilot at frame index {@code i}. {@code hudFrames} may be null when no HUD is shown.
+     */
+    void step(TickFrame frame, int i, BoostSettings settings, ActionBarFrameCache hudFrames, long now) {
+        int slot = frame.slots[i];
+        String name = frame.names[i];
+        long misalignmentGrace = settings.misalignmentGraceMs();
+        ZoneIndex.Effect zone = frame.zone[i];
+
+        // Charge integrates real elapsed time, so boost length and refill don't depend on TPS or cadence.
+        long elapsedMs = pilots.lastUpdateAt[slot] == 0L
+                ? 0L
+                : Math.max(0L, Math.min(MAX_STEP_MS, now - pilots.lastUpdateAt[slot]));
+        pilots.lastUpdateAt[slot] = now;
+        double seconds = elapsedMs / 1000.0;
+
+        boolean inputMode = settings.triggerMode() == BoostSettings.TriggerMode.INPUT;
+
+        boolean movingForward = inputMode
+                ? isForwardKeyHeld(slot, now)
+                : isMovingForward(frame, i, settings, elapsedMs, now);
+
+        // Sprint + forward skips the hold when boosting is driven by keys.
+        long forwardHoldThreshold = inputMode && settings.sprintTriggersBoost() && pilots.sprintKey[slot]
+                ? 0L
+                : settings.forwardHoldMs();
+
+        if (movingForward) {
+            if (!pilots.holdingForward[slot]) {
+                pilots.holdingForward[slot] = true;
+                if (pilots.forwardStartTime[slot] == 0L) {
+                    pilots.forwardStartTime[slot] = now;
+                    logger.logDebug("Input", "%s started forward glide.", name);
+                }
+            }
+
+            // A hold inside a no-boost zone doesn't count toward a boost: it has to be released and pressed
+            // again, so drifting out of the zone (or along its edge) can't start one.
+            if (zone.noBoost() && !pilots.boosting[slot] && !pilots.mustReleaseBeforeNextBoost[slot]) {
+                pilots.mustReleaseBeforeNextBoost[slot] = true;
+                logger.logDebug("Boost", "%s hold ignored: inside a no-boost zone.", name);
+            }
+
+            long heldFor = now - pilots.forwardStartTime[slot];
+            if (logger.isVerbose("Input")) {
+                logger.logVerbose("Input", "%s holding forward (%d ms)", name, heldFor);
+            }
+
+            if (!pilots.boosting[slot] && heldFor >= forwardHoldThreshold && !pilots.mustReleaseBeforeNextBoost[slot]
+                    && !zone.noBoost()) {
+                pilots.boosting[slot] = true;
+                pilots.boostStartTime[slot] = now; // Start the ramp-up timer
+                pilots.coastStartTime[slot] = 0L;
+                pilots.speedCap[slot] = Double.POSITIVE_INFINITY;
+                pilots.preloadScanAt[slot] = 0L;
+                pilots.statBoosts[slot]++;
+                metrics.increment(BoostMetrics.Counter.BOOSTS_TRIGGERED);
+                logger.logBasic("Boost", "%s triggered BOOST!", name);
+            } else {
+                if (!pilots.boosting[slot] && settings.verboseDebug()) {
+                    logger.logDebug("Boost", "%s ❌ Cannot boost: held=%dms (required=%dms), mustRelease=%s, noBoostZone=%s", name, heldFor, forwardHoldThreshold, pilots.mustReleaseBeforeNextBoost[slot], zone.noBoost());
+                }
+            }
+
+        } else {
+            if (pilots.holdingForward[slot]) {
+                logger.logDebug("Input", "%s stopped forward glide.", name);
+            }
+
+            long timeSinceValid = now - pilots.lastValidForwardTime[slot];
+
+            if (timeSinceValid > misalignmentGrace) {
+                pilots.holdingForward[slot] = false;
+                pilots.forwardStartTime[slot] = 0L;
+                pilots.mustReleaseBeforeNextBoost[slot] = false;
+
+                if (pilots.boosting[slot]) {
+                    logger.logBasic("Boost", "%s ⛔ BOOST LOST: misaligned for %dms (limit=%dms)",
+                            name, timeSinceValid, misalignmentGrace);
+                    startSlowdown(slot, settings, zone, now);
+                    pilots.boosting[slot] = false;
+                    pilots.statLost[slot]++;
+                    metrics.increment(BoostMetrics.Counter.BOOSTS_LOST);
+                }
+            }
+        }
+
+        if (frame.obstacleAhead[i] && pilots.boosting[slot]) {
+            if (settings.lookahead().slowDown()) {
+                startSlowdown(slot, settings, zone, now);
+            }
+            pilots.boosting[slot] = false;
+            pilots.mustReleaseBeforeNextBoost[slot] = true;
+            metrics.increment(BoostMetrics.Counter.BOOSTS_BLOCKED);
+            logger.logBasic("Boost", "%s ⛰️ boost cut: terrain ahead.", name);
+        }
+
+        if (zone.noBoost() && pilots.boosting[slot]) {
+            logger.logBasic("Boost", "%s ⛔ boost cut: entered a no-boost zone.", name);
+            startSlowdown(slot, settings, zone, now);
+            pilots.boosting[slot] = false;
+            pilots.holdingForward[slot] = false;
+            pilots.forwardStartTime[slot] = 0L;
+            pilots.mustReleaseBeforeNextBoost[slot] = true;
+            metrics.increment(BoostMetrics.Counter.BOOSTS_ZONED);
+        }
+
+        if (pilots.boosting[slot] && pilots.charge[slot] > 0.0) {
+            pilots.charge[slot] -= pilots.drainPerSecond[slot] * zone.drainMultiplier() * seconds;
+            double speed = rampSpeed(slot, settings, zone, now);
+            if (speed == pilots.speedCap[slot]) {
+                metrics.increment(BoostMetrics.Counter.BOOSTS_GOVERNED);
+            }
+            computeVelocity(frame, i, settings, speed, true);
+
+            // Speed is in blocks per tick; stats keep blocks and blocks per second.
+            pilots.statBoostMs[slot] += elapsedMs;
+            pilots.statDistance[slot] += speed * elapsedMs / MS_PER_TICK;
+            pilots.statTopSpeed[slot] = Math.max(pilots.statTopSpeed[slot], speed * (1000.0 / MS_PER_TICK));
+
+            if (pilots.charge[slot] <= 0.0) {
+                pilots.charge[slot] = 0.0;
+                startSlowdown(slot, settings, zone, now);
+                pilots.boosting[slot] = false;
+                pilots.mustReleaseBeforeNextBoost[slot] = true;
+                metrics.increment(BoostMetrics.Counter.BOOSTS_EMPTIED);
+                logger.logBasic("Boost", "%s boost ended due to empty charge.", name);
+            }
+
+        } else {
+            if (pilots.charge[slot] < 1.0) {
+                pilots.charge[slot] += pilots.refillPerSecond[slot] * zone.refillMultiplier() * seconds;
+            }
+            if (pilots.coastStartTime[slot] != 0L) {
+                slowDown(frame, i, settings, now);
+            }
+        }
+
+        pilots.charge[slot] = Math.max(0.0, Math.min(1.0, pilots.charge[slot]));
+        if (hudFrames != null) {
+            frame.hud[i] = selectHudFrame(slot, name, settings, hudFrames, now);
+        }
+        pilots.nextUpdateAt[slot] = now + cadenceTicks(slot, settings) * MS_PER_TICK;
+
+        if (settings.verboseDebug()) {
+            String snapshot = "charge=" + String.format("%.2f", pilots.charge[slot]) + " boosting=" + pilots.boosting[slot];
+            if (!snapshot.equals(pilots.lastVerboseSnapshot[slot])) {
+                pilots.lastVerboseSnapshot[slot] = snapshot;
+
+                if (!pilots.isThrottled(slot, LogThrottle.TICK, now))
+                    logger.logVerbose("Tick", "Tick: %s %s", name, snapshot);
+            }
+        }
+    }
+
+    // ======================
+    // 🧠 Boost Mechanics
+    // ======================
+
+    /**
+     * Boost speed right now: boost-speed shaped by the pilot's ease-in curve over boost-rampup-speed-ms,
+     * held under the chunk-preload governor's cap while the path ahead is still loading, under the zone's
+     * max-boost-speed, and under load-shedding's max-boost-speed while load shedding caps speed.
+     */
+    private double rampSpeed(int slot, BoostSettings settings, ZoneIndex.Effect zone, long now) {
+        double progress = (double) (now - pilots.boostStartTime[slot]) / settings.rampUpMs();
+        double speed = Math.min(pilots.boostSpeed[slot] * pilots.easeIn[slot].apply(progress), pilots.speedCap[slot]);
+        speed = Math.min(speed, zone.maxBoostSpeed());
+        if (loadGovernor.isAtLeast(LoadGovernor.Level.SPEED_CAP)) {
+            speed = Math.min(speed, settings.loadShedding().maxBoostSpeed());
+        }
+        return speed;
+    }
+
+    /**
+     * Called as a boost ends; the ghast then slows from its current speed over boost-slowdown-ms instead of
+     * being dropped mid-flight.
+     */
+    private void startSlowdown(int slot, BoostSettings settings, ZoneIndex.Effect zone, long now) {
+        if (settings.slowdownMs() <= 0L) return;
+
+        pilots.coastSpeed[slot] = rampSpeed(slot, settings, zone, now);
+        pilots.coastStartTime[slot] = now;
+    }
+
+    /**
+     * Plays the ease-out curve backwards, from the speed the boost ended at down to zero. After that the
+     * ghast is left to vanilla flight. A speed-limit zone entered while slowing down still caps the speed.
+     */
+    private void slowDown(TickFrame frame, int i, BoostSettings settings, long now) {
+        int slot = frame.slots[i];
+        long elapsed = now - pilots.coastStartTime[slot];
+        if (elapsed >= settings.slowdownMs()) {
+            pilots.coastStartTime[slot] = 0L;
+            return;
+        }
+
+        double progress = (double) elapsed / settings.slowdownMs();
+        double speed = pilots.coastSpeed[slot] * pilots.easeOut[slot].apply(1.0 - progress);
+        computeVelocity(frame, i, settings, Math.min(speed, frame.zone[i].maxBoostSpeed()), false);
+    }
+
+    /**
+     * Velocity of {@code speed} along the pilot's look direction. Same math as Location#getDirection(),
+     * minus the allocations. Skips the push when the ghast already moves within velocity-epsilon of it.
+     */
+    private void computeVelocity(TickFrame frame, int i, BoostSettings settings, double speed, boolean boosting) {
+        if (!frame.hasPosition[i]) return;
+
+        int slot = frame.slots[i];
+        float yaw = frame.lookYaw[i];
+        float pitch = frame.lookPitch[i];
+        double horizontal = TrigTable.cos(pitch);
+
+        double vx = -horizontal * TrigTable.sin(yaw) * speed;
+        double vy = -TrigTable.sin(pitch) * speed;
+        double vz = horizontal * TrigTable.cos(yaw) * speed;
+        frame.vx[i] = vx;
+        frame.vy[i] = vy;
+        frame.vz[i] = vz;
+        frame.trail[i] = boosting && settings.trailEnabled() && pilots.particle[slot] != null
+                && !loadGovernor.isAtLeast(LoadGovernor.Level.NO_TRAILS);
+
+        if (frame.hasMotion[i]) {
+            double dx = vx - frame.motionX[i];
+            double dy = vy - frame.motionY[i];
+            double dz = vz - frame.motionZ[i];
+            double epsilon = settings.velocityEpsilon();
+            if (dx * dx + dy * dy + dz * dz <= epsilon * epsilon) {
+                metrics.increment(BoostMetrics.Counter.VELOCITY_SKIPPED);
+                return;
+            }
+        }
+        frame.push[i] = true;
+    }
+
+    /**
+     * The action bar to send this tick, or null if the client already shows it.
+     * Action bars fade client-side, so an unchanged frame is still re-sent once the keep-alive runs out.
+     * While load shedding slows the HUD, a changed frame also waits for hud-min-interval-ms.
+     */
+    Component selectHudFrame(int slot, String name, BoostSettings settings, ActionBarFrameCache hudFrames, long now) {
+        double percent = pilots.charge[slot];
+        boolean boosting = pilots.boosting[slot];
+
+        Component frame = hudFrames.frameFor(percent, boosting);
+        Component send = null;
+        long sinceSent = now - pilots.lastHudSentAt[slot];
+        boolean changed = frame != pilots.lastHudFrame[slot]
+                && (sinceSent >= settings.loadShedding().hudMinIntervalMs() || !loadGovernor.isAtLeast(LoadGovernor.Level.SLOW_HUD));
+        if (changed || sinceSent >= settings.actionbarKeepAliveMs()) {
+            pilots.lastHudFrame[slot] = frame;
+            pilots.lastHudSentAt[slot] = now;
+            send = frame;
+        }
+
+        if (settings.verboseDebug()) {
+            int roundedPercent = (int) (percent * 100 / 5) * 5;
+            String logSnapshot = "charge~" + roundedPercent + "% boosting=" + boosting;
+
+            if (!logSnapshot.equals(pilots.lastBarSnapshot[slot])) {
+                pilots.lastBarSnapshot[slot] = logSnapshot;
+                if (!pilots.isThrottled(slot, LogThrottle.ACTIONBAR, now)) {
+                    logger.logVerbose("HUD", "ActionBar update → %s: %s", name, logSnapshot);
+                }
+            }
+        }
+
+        return send;
+    }
+
+    /**
+     * Ticks until the pilot is next due: every tick while boosting or slowing down so velocity stays smooth,
+     * update-interval while charging or holding forward, and idle-update-interval once parked with a full bar.
+     * The last two are stretched while load shedding slows idle pilots.
+     */
+    private long cadenceTicks(int slot, BoostSettings settings) {
+        if (pilots.boosting[slot] || pilots.coastStartTime[slot] != 0L) return 1L;
+        long ticks = pilots.charge[slot] < 1.0 || pilots.holdingForward[slot] || pilots.forwardKey[slot]
+                ? settings.updateInterval()
+                : settings.idleUpdateInterval();
+        return loadGovernor.isAtLeast(LoadGovernor.Level.SLOW_IDLE)
+                ? ticks * settings.loadShedding().idleIntervalMultiplier()
+                : ticks;
+    }
+
+    // ======================
+    // 🎯 Forward Detection
+    // ======================
+
+    /**
+     * trigger-mode MOVEMENT: infers "holding forward" from how the ghast moved since the last update
+     * compared with the direction it faces.
+     */
+    private boolean isMovingForward(TickFrame frame, int i, BoostSettings settings, long elapsedMs, long now) {
+        if (!frame.hasPosition[i]) return false;
+
+        int slot = frame.slots[i];
+        double x = frame.x[i];
+        double y = frame.y[i];
+        double z = frame.z[i];
+
+        boolean movingForward = false;
+        pilots.lastDot[slot] = Double.NaN;
+
+        if (pilots.hasLastPosition[slot]) {
+            double dx = x - pilots.lastX[slot];
+            double dy = y - pilots.lastY[slot];
+            double dz = z - pilots.lastZ[slot];
+            // min-forward-speed is per tick; scale back the distance covered since the last update.
+            double ticks = Math.max(1.0, elapsedMs / (double) MS_PER_TICK);
+            double speed = (dx * dx + dy * dy + dz * dz) / (ticks * ticks);
+
+            double dotThreshold = settings.forwardDotThreshold();
+            double minSpeed = settings.minForwardSpeed();
+            double effectiveThreshold = pilots.boosting[slot] ? dotThreshold : (dotThreshold + 0.05);
+
+            if (speed > minSpeed || pilots.boosting[slot]) {
+                float yaw = frame.ghastYaw[i]; // facing yaw
+                double facingX = -TrigTable.sin(yaw);
+                double facingZ = TrigTable.cos(yaw);
+
+                // Facing is already unit length, so only the horizontal movement needs normalizing.
+                double horizontal = Math.sqrt(dx * dx + dz * dz);
+                double dot = horizontal > 0.0 ? (facingX * dx + facingZ * dz) / horizontal : 0.0;
+                movingForward = dot >= effectiveThreshold;
+                pilots.lastDot[slot] = dot;
+
+                if (movingForward) {
+                    pilots.lastValidForwardTime[slot] = now;
+                }
+
+                if (settings.verboseDebug()) {
+                    String snapshot = String.format("dot=%.3f aligned=%s speed=%.6f boosting=%s threshold=%.2f",
+                            dot, movingForward, speed, pilots.boosting[slot], effectiveThreshold);
+
+                    if (!snapshot.equals(pilots.lastDotSpeedSnapshot[slot])) {
+                        pilots.lastDotSpeedSnapshot[slot] = snapshot;
+
+                        if (!pilots.isThrottled(slot, LogThrottle.ALIGN, now)) {
+                            logger.logVerbose("Tick", "%s tick: %s grace=%dms", frame.names[i], snapshot, (now - pilots.lastValidForwardTime[slot]));
+                        }
+                    }
+                }
+            }
+        }
+
+        pilots.lastX[slot] = x;
+        pilots.lastY[slot] = y;
+        pilots.lastZ[slot] = z;
+        pilots.hasLastPosition[slot] = true;
+
+        return movingForward;
+    }
+
+    /**
+     * trigger-mode INPUT: the forward key as last reported by {@link BoostTickTasks#onInput}. No position is read.
+     */
+    private boolean isForwardKeyHeld(int slot, long now) {
+        boolean held = pilots.forwardKey[slot];
+        if (held) {
+            pilots.lastValidForwardTime[slot] = now;
+        }
+        return held;
+    }
+}
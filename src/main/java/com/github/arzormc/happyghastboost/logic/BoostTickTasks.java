@@ -1,23 +1,43 @@
 package com.github.arzormc.happyghastboost.logic;
 
 import com.github.arzormc.happyghastboost.HappyGhastBoost;
-import org.bukkit.Bukkit;
+import com.github.arzormc.happyghastboost.config.BoostSettings;
+import com.github.arzormc.happyghastboost.config.ZoneIndex;
+import com.github.arzormc.happyghastboost.util.ActionBarFrameCache;
+import com.github.arzormc.happyghastboost.util.BoostLogger;
+import com.github.arzormc.happyghastboost.util.BoostMetrics;
+import com.github.arzormc.happyghastboost.util.FlightStatsStore;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Input;
 import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.HappyGhast;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
-import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class BoostTickTasks {
 
     private final BoostManager manager;
     private final HappyGhastBoost plugin;
 
-    private BukkitTask loopTask;
+    private TickBackend backend;
+
+    // How often a boosting pilot's path is checked for unloaded chunks.
+    private static final long PRELOAD_SCAN_MS = 250L;
+    // Longest a boosting pilot's flight stats wait before they are handed to the stats store.
+    private static final long STATS_SHIP_MS = 30_000L;
+
+    // Main-thread pass buffer for tickAll; region threads use their own via TickScratch.
+    private final TickFrame frame = new TickFrame(64);
+    private ForkJoinPool computePool;
 
     public BoostTickTasks(BoostManager manager) {
         this.manager = manager;
@@ -25,153 +45,461 @@ public class BoostTickTasks {
     }
 
     // ======================
-    // 🔁 Main Boost Loop
+    // 🧵 Scheduling Backend
     // ======================
     public void start() {
-        if (loopTask != null) return;
+        if (backend != null) return;
+
+        BoostSettings settings = manager.getSettings();
+        backend = resolveMode(settings.schedulerMode()) == BoostSettings.SchedulerMode.REGION
+                ? new RegionTickBackend(plugin, this)
+                : new ClassicTickBackend(plugin, this);
+        backend.start();
+        manager.getChunkPreloader().start();
+        manager.getLoadGovernor().start();
+
+        manager.getLogger().logBasic("Scheduler", "Boost loop started with %s backend (boosting every tick, charging every %d, idle every %d).",
+                backend.getClass().getSimpleName(), settings.updateInterval(), settings.idleUpdateInterval());
+    }
 
-        final double dotThreshold = plugin.getConfig().getDouble("forward-dot-threshold", 0.85);
-        final long forwardHoldThreshold = plugin.getConfig().getLong("forward-hold-ms", 1200L);
+    public void stop() {
+        if (backend == null) return;
 
-        loopTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            long now = System.currentTimeMillis();
-            long misalignmentGrace = plugin.getConfig().getLong("boost-misalignment-grace-ms", 300);
+        backend.stop();
+        backend = null;
+        manager.getChunkPreloader().stop();
+        manager.getLoadGovernor().stop();
 
-            for (Map.Entry<UUID, UUID> entry : manager.getPilotManager().getGhastToPilotMap().entrySet()) {
-                Player player = Bukkit.getPlayer(entry.getValue());
-                if (player == null || !player.isOnline()) continue;
+        if (computePool != null) {
+            computePool.shutdown();
+            computePool = null;
+        }
+        frame.clear();
+        manager.getTerrainLookahead().clear();
+    }
 
-                if (plugin.getConfig().getBoolean("require-permission", false)
-                        && !player.hasPermission("happyghastboost.use")) {
-                    continue;
-                }
+    public void restart() {
+        stop();
+        start();
+    }
 
-                UUID playerId = player.getUniqueId();
-                BoostState state = manager.getBoostStates().get(playerId);
-                if (state == null) continue;
+    public void onPilotRegistered(HappyGhast ghast, int slot) {
+        if (backend != null) backend.track(ghast, slot);
+    }
 
-                if (manager.getPilotManager().getRecentlyUnregistered().remove(playerId)) continue;
+    /**
+     * Runs {@code write} to the slot's per-pilot fields on the thread that ticks the slot: right here under
+     * the classic backend, whose loop shares the main thread with events, otherwise as the ghast's next
+     * scheduled task. Dropped if the slot has changed hands by then.
+     */
+    void runOnSlotOwner(HappyGhast ghast, int slot, Runnable write) {
+        if (!(backend instanceof RegionTickBackend)) {
+            write.run();
+            return;
+        }
 
-                Entity vehicle = player.getVehicle();
-                if (!(vehicle instanceof HappyGhast ghast) || !ghast.isValid()) continue;
+        PilotRegistry pilots = manager.getPilots();
+        UUID ghastId = ghast.getUniqueId();
+        ghast.getScheduler().run(plugin, task -> {
+            if (pilots.isActive(slot) && ghastId.equals(pilots.ghastId(slot))) write.run();
+        }, null);
+    }
 
-                UUID ghastId = ghast.getUniqueId();
-                Location current = ghast.getLocation();
-                Location previous = manager.getPilotManager().getLastGhastLocations().get(ghastId);
+    public void onPilotUnregistered(UUID ghastId) {
+        if (backend != null) backend.untrack(ghastId);
+        manager.getTerrainLookahead().forget(ghastId);
+    }
 
-                boolean movingForward = false;
+    public static BoostSettings.SchedulerMode resolveMode(BoostSettings.SchedulerMode mode) {
+        if (mode != BoostSettings.SchedulerMode.AUTO) return mode;
+        return isFolia() ? BoostSettings.SchedulerMode.REGION : BoostSettings.SchedulerMode.CLASSIC;
+    }
 
-                if (previous != null) {
-                    Vector delta = current.toVector().subtract(previous.toVector());
-                    double speed = delta.lengthSquared();
+    public static boolean isFolia() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
 
-                    double minSpeed = plugin.getConfig().getDouble("min-forward-speed", 0.01);
-                    double effectiveThreshold = state.boosting ? dotThreshold : (dotThreshold + 0.05);
+    BoostManager getManager() {
+        return manager;
+    }
 
-                    if (speed > minSpeed || state.boosting) {
-                        Vector horizontalDelta = delta.clone().setY(0).normalize();
-                        float yaw = ghast.getLocation().getYaw(); // facing yaw
-                        Vector facing = new Vector(-Math.sin(Math.toRadians(yaw)), 0, Math.cos(Math.toRadians(yaw))).normalize();
+    // ======================
+    // 🔁 Per-Pilot Boost Tick
+    // ======================
 
-                        double dot = facing.dot(horizontalDelta);
-                        movingForward = dot >= effectiveThreshold;
+    /**
+     * One pass over every registered pilot, as run by the classic backend's timer every tick.
+     * Pilots that aren't due yet cost a single comparison.
+     * <p>
+     * Due pilots are snapshotted, stepped and applied in three passes. Only the middle one is free of
+     * Bukkit calls, so above parallel-pilot-threshold it is split across the compute pool while the
+     * main thread waits.
+     */
+    public void tickAll(long now) {
+        long startedAt = System.nanoTime();
+        BoostSettings settings = manager.getSettings();
+        PilotRegistry pilots = manager.getPilots();
+        TickScratch scratch = TickScratch.get();
+        long[] phases = manager.getProfiler().isActive() ? scratch.phaseNanos : null;
+        manager.getChargeStorage().refillWriteBudget(settings.persistWritesPerTick());
+
+        TickFrame frame = this.frame;
+        frame.clear();
+        for (int slot = 0, end = pilots.highWater(); slot < end; slot++) {
+            capture(pilots, slot, settings, now, frame, scratch, phases);
+        }
+        if (frame.size == 0) {
+            finishRun(phases, 0, startedAt);
+            return;
+        }
 
-                        if (movingForward) {
-                            state.lastValidForwardTime = now;
-                        }
+        long mark = TickProfiler.mark(phases);
+        ActionBarFrameCache hudFrames = manager.getHudFrames();
+        int threshold = settings.parallelPilotThreshold();
+        if (threshold > 0 && frame.size >= threshold) {
+            computePool().invoke(new ComputeTask(manager.getStateMachine(), frame, 0, frame.size, settings, hudFrames, now));
+        } else {
+            BoostStateMachine stateMachine = manager.getStateMachine();
+            for (int i = 0; i < frame.size; i++) {
+                stateMachine.step(frame, i, settings, hudFrames, now);
+            }
+        }
+        TickProfiler.lap(phases, TickProfiler.COMPUTE, mark);
 
-                        if (plugin.getConfig().getBoolean("verbose-debug")) {
-                            String snapshot = String.format("dot=%.3f aligned=%s speed=%.6f boosting=%s threshold=%.2f",
-                                    dot, movingForward, speed, state.boosting, effectiveThreshold);
+        int trails = 0;
+        for (int i = 0; i < frame.size; i++) {
+            if (frame.trail[i]) trails++;
+        }
+        manager.getTrailRenderer().beginTick(settings.trailLod().maxParticlesPerTick(), trails);
 
-                            String last = manager.getLastDotSpeedSnapshot().get(playerId);
-                            if (!snapshot.equals(last)) {
-                                manager.getLastDotSpeedSnapshot().put(playerId, snapshot);
+        for (int i = 0; i < frame.size; i++) {
+            apply(pilots, frame, i, settings, scratch, true, phases, now);
+        }
+        finishRun(phases, frame.size, startedAt);
+    }
 
-                                if (!manager.getLogger().isThrottled("align-" + playerId, 300)) {
-                                    manager.getLogger().logVerbose("Tick", "%s tick: %s grace=%dms", player.getName(), snapshot, (now - state.lastValidForwardTime));
-                                }
-                            }
-                        }
-                    }
-                }
+    /**
+     * Ticks a single pilot start to finish on the calling thread, as the region backend does per ghast.
+     */
+    void tickSlot(int slot, BoostSettings settings, long now) {
+        PilotRegistry pilots = manager.getPilots();
+        TickScratch scratch = TickScratch.get();
+        TickFrame frame = scratch.frame;
+        long startedAt = System.nanoTime();
+        long[] phases = manager.getProfiler().isActive() ? scratch.phaseNanos : null;
+
+        frame.clear();
+        if (!capture(pilots, slot, settings, now, frame, scratch, phases)) {
+            if (phases != null) manager.getProfiler().record(phases, 0, System.nanoTime() - startedAt);
+            return;
+        }
 
-                manager.getPilotManager().getLastGhastLocations().put(ghastId, current.clone());
-
-                if (movingForward) {
-                    if (!state.isHoldingForward) {
-                        state.isHoldingForward = true;
-                        if (state.forwardStartTime == 0L) {
-                            state.forwardStartTime = now;
-                            manager.getLogger().logDebug("Input", "%s started forward glide.", player.getName());
-                        }
-                    }
-
-                    long heldFor = now - state.forwardStartTime;
-                    manager.getLogger().logVerbose("Input", "%s holding forward (%d ms)", player.getName(), heldFor);
-
-                    if (!state.boosting && heldFor >= forwardHoldThreshold && !state.mustReleaseBeforeNextBoost) {
-                        state.boosting = true;
-                        state.boostStartTime = now; // Start the ramp-up timer
-                        manager.getLogger().logBasic("Boost", "%s triggered BOOST!", player.getName());
-                    } else {
-                        if (!state.boosting && plugin.getConfig().getBoolean("verbose-debug")) {
-                            manager.getLogger().logDebug("Boost", "%s ❌ Cannot boost: held=%dms (required=%dms), mustRelease=%s", player.getName(), heldFor, forwardHoldThreshold, state.mustReleaseBeforeNextBoost);
-                        }
-                    }
-
-                } else {
-                    if (state.isHoldingForward) {
-                        manager.getLogger().logDebug("Input", "%s stopped forward glide.", player.getName());
-                    }
-
-                    long timeSinceValid = now - state.lastValidForwardTime;
-
-                    if (timeSinceValid > misalignmentGrace) {
-                        state.isHoldingForward = false;
-                        state.forwardStartTime = 0L;
-                        state.mustReleaseBeforeNextBoost = false;
-
-                        if (state.boosting) {
-                            manager.getLogger().logBasic("Boost", "%s ⛔ BOOST LOST: misaligned for %dms (limit=%dms)",
-                                    player.getName(), timeSinceValid, misalignmentGrace);
-                            state.boosting = false;
-                        }
-                    }
-                }
+        long mark = TickProfiler.mark(phases);
+        manager.getStateMachine().step(frame, 0, settings, manager.getHudFrames(), now);
+        TickProfiler.lap(phases, TickProfiler.COMPUTE, mark);
 
-                if (state.boosting && state.charge > 0.0) {
-                    state.charge -= state.drainRate;
-                    manager.applyBoost(player, state);
-
-                    if (state.charge <= 0.0) {
-                        state.charge = 0.0;
-                        state.boosting = false;
-                        state.mustReleaseBeforeNextBoost = true;
-                        manager.getLogger().logBasic("Boost", "%s boost ended due to empty charge.", player.getName());
-                    }
-
-                } else {
-                    if (state.charge < 1.0) {
-                        state.charge += state.refillRate;
-                    }
-                }
+        apply(pilots, frame, 0, settings, scratch, false, phases, now);
+        frame.clear();
+        finishRun(phases, 1, startedAt);
+    }
 
-                state.charge = Math.max(0.0, Math.min(1.0, state.charge));
-                manager.updateActionBar(player, state);
+    private void finishRun(long[] phases, int pilotCount, long startedAt) {
+        long elapsed = System.nanoTime() - startedAt;
+        manager.getMetrics().recordTick(elapsed);
+        if (phases != null) {
+            manager.getProfiler().record(phases, pilotCount, elapsed);
+        }
+    }
 
-                if (plugin.getConfig().getBoolean("verbose-debug")) {
-                    String snapshot = "charge=" + String.format("%.2f", state.charge) + " boosting=" + state.boosting;
-                    if (!snapshot.equals(manager.getPilotManager().getLastVerboseSnapshot().get(playerId))) {
-                        manager.getPilotManager().getLastVerboseSnapshot().put(playerId, snapshot);
+    // ======================
+    // 📸 Snapshot Phase
+    // ======================
 
-                        if (!manager.getLogger().isThrottled("tick-" + playerId, 500))
-                            manager.getLogger().logVerbose("Tick", "Tick: %s %s", player.getName(), snapshot);
-                        }
-                    }
-                }
-            }, 0L, manager.getUpdateInterval());
+    /**
+     * Adds the pilot to {@code frame} if it is due and still riding. Runs on the thread that owns the ghast,
+     * and reads positions only when the step can use them.
+     */
+    private boolean capture(PilotRegistry pilots, int slot, BoostSettings settings, long now,
+                            TickFrame frame, TickScratch scratch, long[] phases) {
+        if (!pilots.active[slot]) return false;
+
+        // Half a tick of slack so scheduler jitter doesn't push a pilot back a whole cadence.
+        if (now < pilots.nextUpdateAt[slot] - BoostStateMachine.MS_PER_TICK / 2) return false;
+
+        long mark = TickProfiler.mark(phases);
+        Player player = pilots.players[slot];
+        boolean online = player != null && player.isOnline();
+        mark = TickProfiler.lap(phases, TickProfiler.LOOKUP, mark);
+        if (!online) return false;
+
+        if (now - pilots.permissionsCheckedAt[slot] >= settings.permissionRefreshMs()) {
+            manager.getPilotManager().refreshPermissions(player, slot, now);
+        }
+        boolean permitted = !settings.requirePermission() || pilots.usePermitted[slot];
+        mark = TickProfiler.lap(phases, TickProfiler.PERMISSION, mark);
+        if (!permitted) return false;
+
+        if (pilots.skipNextTick[slot]) {
+            pilots.skipNextTick[slot] = false;
+            pilots.lastUpdateAt[slot] = now;
+            return false;
         }
-}
 
+        Entity vehicle = player.getVehicle();
+        HappyGhast ghast = vehicle instanceof HappyGhast riding && riding.isValid() ? riding : null;
+        mark = TickProfiler.lap(phases, TickProfiler.LOOKUP, mark);
+        if (ghast == null) return false;
+
+        int i = frame.add(slot, player, ghast, player.getName());
+        // Always taken, so a hit that arrives after a boost ended can't cut the next one.
+        frame.obstacleAhead[i] = manager.getTerrainLookahead().takeHit(pilots.ghastIds[slot]) && pilots.boosting[slot];
+
+        // INPUT mode only needs positions once a boost is running, about to start, or slowing down,
+        // unless zones are configured and charge rates depend on where the ghast is.
+        boolean pushing = pilots.boosting[slot] || pilots.coastStartTime[slot] != 0L;
+        ZoneIndex zones = settings.zones();
+        boolean needsPosition = settings.triggerMode() == BoostSettings.TriggerMode.MOVEMENT
+                || pushing || pilots.forwardKey[slot] || !zones.isEmpty();
+        if (needsPosition) {
+            Location location = ghast.getLocation(scratch.location);
+            frame.x[i] = location.getX();
+            frame.y[i] = location.getY();
+            frame.z[i] = location.getZ();
+            frame.ghastYaw[i] = location.getYaw();
+
+            player.getLocation(location);
+            frame.lookYaw[i] = location.getYaw();
+            frame.lookPitch[i] = location.getPitch();
+            frame.hasPosition[i] = true;
+
+            if (!zones.isEmpty()) {
+                frame.zone[i] = zoneEffect(pilots, slot, zones, ghast.getWorld(), frame.x[i], frame.y[i], frame.z[i]);
+            }
+
+            if (pushing && settings.velocityEpsilon() > 0.0) {
+                Vector motion = ghast.getVelocity();
+                frame.motionX[i] = motion.getX();
+                frame.motionY[i] = motion.getY();
+                frame.motionZ[i] = motion.getZ();
+                frame.hasMotion[i] = true;
+            }
+            TickProfiler.lap(phases, TickProfiler.POSITION, mark);
+        }
+        return true;
+    }
 
+    /**
+     * The zone effect at the ghast's position. The cell is looked up again only after the ghast crosses into
+     * another cell or world, or the zones were reloaded; a cell no zone edge runs through needs no further test.
+     */
+    private static ZoneIndex.Effect zoneEffect(PilotRegistry pilots, int slot, ZoneIndex zones, World world,
+                                               double x, double y, double z) {
+        long key = zones.cellKey(x, z);
+        if (pilots.zoneIndex[slot] != zones || pilots.zoneWorld[slot] != world || pilots.zoneCellKey[slot] != key) {
+            pilots.zoneIndex[slot] = zones;
+            pilots.zoneWorld[slot] = world;
+            pilots.zoneCellKey[slot] = key;
+            pilots.zoneCell[slot] = zones.cellAt(world.getName(), key);
+        }
+
+        ZoneIndex.Cell cell = pilots.zoneCell[slot];
+        if (cell == null) return ZoneIndex.Effect.NONE;
+        return cell.isUniform() ? cell.covering() : zones.effectAt(cell, x, y, z);
+    }
+
+    // ======================
+    // 🚀 Apply Phase
+    // ======================
+
+    /**
+     * Turns the step's outputs into Bukkit calls on the thread that owns the ghast.
+     * {@code worldViewers} picks the trail receivers: the per-world snapshot (classic) or the ghast's trackers (region).
+     */
+    private void apply(PilotRegistry pilots, TickFrame frame, int i, BoostSettings settings, TickScratch scratch,
+                       boolean worldViewers, long[] phases, long now) {
+        int slot = frame.slots[i];
+        Player player = frame.players[i];
+        HappyGhast ghast = frame.ghasts[i];
+        BoostLogger logger = manager.getLogger();
+        BoostMetrics metrics = manager.getMetrics();
+        long mark = TickProfiler.mark(phases);
+
+        boolean valid = (frame.push[i] || frame.trail[i]) && ghast.isValid();
+
+        if (frame.push[i] && valid) {
+            ghast.setVelocity(scratch.velocity.setX(frame.vx[i]).setY(frame.vy[i]).setZ(frame.vz[i]));
+            metrics.increment(BoostMetrics.Counter.VELOCITY_UPDATES);
+            if (logger.isVerbose("Velocity")) {
+                logger.logVerbose("Velocity", "Applied velocity to ghast: %.3f,%.3f,%.3f", frame.vx[i], frame.vy[i], frame.vz[i]);
+            }
+            mark = TickProfiler.lap(phases, TickProfiler.VELOCITY, mark);
+        }
+
+        // Drawn even when the velocity update was skipped as unchanged.
+        Particle particle = pilots.particle[slot];
+        if (frame.trail[i] && valid && particle != null) {
+            double x = frame.x[i];
+            double y = frame.y[i] + 0.5;
+            double z = frame.z[i];
+            TrailRenderer trails = manager.getTrailRenderer();
+            int drawn = worldViewers
+                    ? trails.drawForWorld(player, player.getWorld(), particle, x, y, z, settings.trailLod(), scratch)
+                    : trails.drawForTrackers(player, ghast, particle, x, y, z, settings.trailLod(), scratch);
+            if (logger.isVerbose("Particles")) {
+                logger.logVerbose("Particles", "Drew %s trail (%d particles) at %.2f,%.2f,%.2f", particle, drawn, x, y, z);
+            }
+            mark = TickProfiler.lap(phases, TickProfiler.TRAIL, mark);
+        }
+
+        Component hud = frame.hud[i];
+        if (hud != null) {
+            player.sendActionBar(hud);
+            metrics.increment(BoostMetrics.Counter.ACTIONBARS_SENT);
+            mark = TickProfiler.lap(phases, TickProfiler.ACTIONBAR, mark);
+        }
+
+        manager.getChargeStorage().flushIfDirty(slot, settings.persistDelta());
+
+        FlightStatsStore flightStats = manager.getFlightStats();
+        if (flightStats.isEnabled()) {
+            long wallNow = System.currentTimeMillis();
+            if (!pilots.boosting[slot] || wallNow - pilots.statsShippedAt[slot] >= STATS_SHIP_MS) {
+                pilots.shipFlightStats(slot, flightStats, wallNow);
+            }
+        }
+        manager.getFlightRecorder().record(pilots, frame, i, now);
+        mark = TickProfiler.lap(phases, TickProfiler.PERSIST, mark);
+
+        BoostSettings.Lookahead lookahead = settings.lookahead();
+        if (lookahead.enabled() && pilots.boosting[slot] && frame.hasPosition[i] && ghast.isValid()) {
+            manager.getTerrainLookahead().submit(pilots.ghastIds[slot], ghast.getWorld(),
+                    frame.x[i], frame.y[i], frame.z[i], frame.vx[i], frame.vy[i], frame.vz[i],
+                    lookahead, System.currentTimeMillis());
+            mark = TickProfiler.lap(phases, TickProfiler.LOOKAHEAD, mark);
+        }
+
+        BoostSettings.ChunkPreload preload = settings.chunkPreload();
+        if (preload.enabled() && pilots.boosting[slot] && frame.hasPosition[i]) {
+            long wallNow = System.currentTimeMillis();
+            if (wallNow >= pilots.preloadScanAt[slot]) {
+                pilots.preloadScanAt[slot] = wallNow + PRELOAD_SCAN_MS;
+                double missingAt = manager.getChunkPreloader().scan(player.getWorld(), frame.x[i], frame.z[i],
+                        frame.vx[i], frame.vz[i], preload, wallNow);
+                pilots.speedCap[slot] = governorCap(pilots, slot, preload, missingAt);
+                TickProfiler.lap(phases, TickProfiler.LOOKAHEAD, mark);
+            }
+        }
+    }
+
+    /**
+     * Fastest the pilot may boost, in blocks per tick, so it reaches the first unloaded chunk no sooner
+     * than min-lead-seconds from now; never below min-speed-factor of its boost speed.
+     */
+    private static double governorCap(PilotRegistry pilots, int slot, BoostSettings.ChunkPreload preload, double missingAt) {
+        if (Double.isInfinite(missingAt) || preload.minLeadSeconds() <= 0.0) return Double.POSITIVE_INFINITY;
+
+        double cap = missingAt / (preload.minLeadSeconds() * 20.0);
+        return Math.max(cap, pilots.boostSpeed[slot] * preload.minSpeedFactor());
+    }
+
+    // ======================
+    // ⚡ Parallel Compute
+    // ======================
+
+    private ForkJoinPool computePool() {
+        ForkJoinPool pool = computePool;
+        if (pool == null) {
+            int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            AtomicInteger threadCount = new AtomicInteger();
+            pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                thread.setName("HappyGhastBoost-Compute-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, null, false);
+            computePool = pool;
+            manager.getLogger().logDebug("Scheduler", "Started compute pool with %d threads.", parallelism);
+        }
+        return pool;
+    }
+
+    /**
+     * Steps frame indices {@code [from, to)}, halving the range until it is small enough to run inline.
+     * Each index belongs to a different pilot, so the halves never write the same slot.
+     */
+    private static final class ComputeTask extends RecursiveAction {
+
+        private static final int LEAF_SIZE = 64;
+
+        private final BoostStateMachine stateMachine;
+        private final TickFrame frame;
+        private final int from;
+        private final int to;
+        private final BoostSettings settings;
+        private final ActionBarFrameCache hudFrames;
+        private final long now;
+
+        ComputeTask(BoostStateMachine stateMachine, TickFrame frame, int from, int to,
+                    BoostSettings settings, ActionBarFrameCache hudFrames, long now) {
+            this.stateMachine = stateMachine;
+            this.frame = frame;
+            this.from = from;
+            this.to = to;
+            this.settings = settings;
+            this.hudFrames = hudFrames;
+            this.now = now;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    stateMachine.step(frame, i, settings, hudFrames, now);
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new ComputeTask(stateMachine, frame, from, mid, settings, hudFrames, now),
+                    new ComputeTask(stateMachine, frame, mid, to, settings, hudFrames, now)
+            );
+        }
+    }
+
+    /**
+     * Records the pilot's movement keys as the client sends them (trigger-mode INPUT only).
+     * A forward press starts the hold timer right away instead of on the next tick, and a release starts
+     * the misalignment grace. Runs on the thread that owns the player, which is also the one ticking them.
+     */
+    public void onInput(Player player, Input input) {
+        if (manager.getSettings().triggerMode() != BoostSettings.TriggerMode.INPUT) return;
+
+        PilotRegistry pilots = manager.getPilots();
+        int slot = pilots.slotOf(player.getUniqueId());
+        if (slot == PilotRegistry.NO_SLOT) return;
+
+        pilots.wake(slot);
+
+        boolean forward = input.isForward() && !input.isBackward();
+        pilots.sprintKey[slot] = input.isSprint();
+        if (forward == pilots.forwardKey[slot]) return;
+
+        long now = System.currentTimeMillis();
+        pilots.forwardKey[slot] = forward;
+        pilots.lastValidForwardTime[slot] = now;
+
+        if (forward && !pilots.holdingForward[slot]) {
+            pilots.holdingForward[slot] = true;
+            if (pilots.forwardStartTime[slot] == 0L) {
+                pilots.forwardStartTime[slot] = now;
+                manager.getLogger().logDebug("Input", "%s pressed forward.", player.getName());
+            }
+        }
+    }
+}
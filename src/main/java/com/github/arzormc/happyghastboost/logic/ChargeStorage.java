@@ -1,6 +1,7 @@
 package com.github.arzormc.happyghastboost.logic;
 
 import com.github.arzormc.happyghastboost.util.BoostLogger;
+import com.github.arzormc.happyghastboost.util.BoostMetrics;
 import com.github.arzormc.happyghastboost.HappyGhastBoost;
 import org.bukkit.Bukkit;
 import org.bukkit.World;
@@ -10,77 +11,170 @@ import org.bukkit.entity.Player;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ChargeStorage {
 
+    private final HappyGhastBoost plugin;
     private final BoostLogger logger;
+    private final BoostMetrics metrics;
 
-    private final Map<UUID, BoostState> boostStates;
-    private final Map<UUID, UUID> ghastToPilot;
-    private final Map<UUID, Double> ghastChargeLevels = new HashMap<>();
+    private final PilotRegistry pilots;
+    private final Map<UUID, Double> ghastChargeLevels = new ConcurrentHashMap<>();
 
     private final org.bukkit.NamespacedKey CHARGE_KEY;
 
+    // PDC writes left this tick; refilled by the tick backend.
+    private final AtomicInteger writeBudget = new AtomicInteger();
 
     public ChargeStorage(HappyGhastBoost plugin,
-                         Map<UUID, BoostState> boostStates,
-                         Map<UUID, UUID> ghastToPilot,
-                         BoostLogger logger) {
+                         PilotRegistry pilots,
+                         BoostLogger logger,
+                         BoostMetrics metrics) {
+        this.plugin = plugin;
         this.logger = logger;
-        this.boostStates = boostStates;
-        this.ghastToPilot = ghastToPilot;
+        this.metrics = metrics;
+        this.pilots = pilots;
         this.CHARGE_KEY = new org.bukkit.NamespacedKey(plugin, "boost_charge");
     }
 
     // ======================
     // 📁 Charge Persistence
     // ======================
-    public void loadChargeDataFromPDC() {
+
+    /**
+     * Caches the charge of ghasts whose chunk just loaded. Replaces scanning every world at enable.
+     */
+    public void hydrate(List<Entity> entities) {
         int loaded = 0;
 
-        for (World world : Bukkit.getWorlds()) {
-            for (HappyGhast ghast : world.getEntitiesByClass(HappyGhast.class)) {
-                if (!ghast.isValid()) continue;
+        for (Entity entity : entities) {
+            if (!(entity instanceof HappyGhast ghast)) continue;
 
-                PersistentDataContainer pdc = ghast.getPersistentDataContainer();
-                if (pdc.has(CHARGE_KEY, PersistentDataType.DOUBLE)) {
-                    Double value = pdc.get(CHARGE_KEY, PersistentDataType.DOUBLE);
+            PersistentDataContainer pdc = ghast.getPersistentDataContainer();
+            if (!pdc.has(CHARGE_KEY, PersistentDataType.DOUBLE)) continue;
 
-                    // ✅ Safety check against corrupted data
-                    if (value != null && Double.isFinite(value)) {
-                        ghastChargeLevels.put(ghast.getUniqueId(), Math.max(0.0, Math.min(1.0, value)));
-                        loaded++;
-                    } else if (value != null) {
-                        logger.logDebug("Charge", "Skipped loading invalid charge (non-finite) for ghast %s", ghast.getUniqueId());
-                    }
-                }
+            Double value = pdc.get(CHARGE_KEY, PersistentDataType.DOUBLE);
+
+            // ✅ Safety check against corrupted data
+            if (value != null && Double.isFinite(value)) {
+                ghastChargeLevels.putIfAbsent(ghast.getUniqueId(), Math.max(0.0, Math.min(1.0, value)));
+                loaded++;
+            } else if (value != null) {
+                logger.logDebug("Charge", "Skipped loading invalid charge (non-finite) for ghast %s", ghast.getUniqueId());
             }
         }
 
-        logger.logDebug("Charge", "Loaded %d Happy Ghast charges from PDC.", loaded);
+        if (loaded > 0) {
+            logger.logDebug("Charge", "Loaded %d Happy Ghast charges from PDC.", loaded);
+        }
     }
 
-    public void saveChargeDataToPDC() {
-        int saved = 0;
+    /**
+     * Writes back and drops the cached charge of ghasts whose chunk is unloading, so the cache only
+     * holds loaded ghasts.
+     */
+    public void evict(List<Entity> entities) {
+        int evicted = 0;
 
-        for (Map.Entry<UUID, Double> entry : ghastChargeLevels.entrySet()) {
-            UUID ghastId = entry.getKey();
-            Double charge = entry.getValue();
+        for (Entity entity : entities) {
+            if (!(entity instanceof HappyGhast ghast)) continue;
 
-            if (charge == null) continue; // 🚫 Skip nulls
+            UUID ghastId = ghast.getUniqueId();
+            int slot = pilots.slotOfGhast(ghastId);
+            if (slot != PilotRegistry.NO_SLOT) {
+                writeSlot(slot);
+            }
 
-            Entity entity = Bukkit.getEntity(ghastId);
-            if (entity instanceof HappyGhast ghast && ghast.isValid()) {
-                double clamped = Math.max(0.0, Math.min(1.0, charge));
-                ghast.getPersistentDataContainer().set(CHARGE_KEY, PersistentDataType.DOUBLE, clamped);
-                saved++;
+            Double cached = ghastChargeLevels.remove(ghastId);
+            if (cached != null) {
+                ghast.getPersistentDataContainer().set(CHARGE_KEY, PersistentDataType.DOUBLE, Math.max(0.0, Math.min(1.0, cached)));
+                metrics.increment(BoostMetrics.Counter.PDC_WRITES);
+                evicted++;
             }
         }
 
-        logger.logDebug("Charge", "Saved %d Happy Ghast charges to PDC.", saved);
+        if (evicted > 0) {
+            logger.logDebug("Charge", "Wrote back and evicted %d Happy Ghast charges.", evicted);
+        }
+    }
+
+    // ======================
+    // 💾 Write-Behind Flushing
+    // ======================
+
+    /**
+     * A pilot's charge is dirty once it has moved {@code delta} away from what was last written to the
+     * ghast's PDC, or has reached empty or full.
+     */
+    boolean isDirty(int slot, double delta) {
+        double charge = pilots.charge[slot];
+        double persisted = pilots.persistedCharge[slot];
+        if (charge == persisted) return false;
+
+        // NaN (never written) compares false, so it counts as dirty.
+        return !(Math.abs(charge - persisted) < delta) || charge == 0.0 || charge == 1.0;
+    }
+
+    void refillWriteBudget(int writesPerTick) {
+        writeBudget.set(writesPerTick);
+    }
+
+    /**
+     * Called by the tick's apply phase on the thread that owns the ghast: writes the charge if it's dirty and this
+     * tick's write budget isn't spent.
+     */
+    void flushIfDirty(int slot, double delta) {
+        if (!isDirty(slot, delta)) return;
+        if (writeBudget.getAndDecrement() <= 0) return;
+
+        writeSlot(slot);
+    }
+
+    /**
+     * Writes every dirty pilot in {@code world} (all worlds if null) right away. Used on world save and shutdown.
+     * Ghasts owned by another region thread are written on that thread instead.
+     */
+    public void flushAll(World world) {
+        int written = 0;
+        int deferred = 0;
+
+        for (int slot = 0, end = pilots.highWater(); slot < end; slot++) {
+            if (!pilots.isActive(slot) || !isDirty(slot, 0.0)) continue;
+
+            HappyGhast ghast = pilots.ghast(slot);
+            if (ghast == null || (world != null && !world.equals(ghast.getWorld()))) continue;
+
+            if (Bukkit.isOwnedByCurrentRegion(ghast)) {
+                writeSlot(slot);
+                written++;
+            } else {
+                int target = slot;
+                UUID ghastId = ghast.getUniqueId();
+                ghast.getScheduler().run(plugin, task -> {
+                    if (pilots.isActive(target) && ghastId.equals(pilots.ghastId(target))) {
+                        writeSlot(target);
+                    }
+                }, null);
+                deferred++;
+            }
+        }
+
+        logger.logDebug("Charge", "Flushed %d dirty charges to PDC (%d handed to their region).", written, deferred);
+    }
+
+    private void writeSlot(int slot) {
+        HappyGhast ghast = pilots.ghast(slot);
+        if (ghast == null || !ghast.isValid()) return;
+
+        double clamped = Math.max(0.0, Math.min(1.0, pilots.charge[slot]));
+        ghast.getPersistentDataContainer().set(CHARGE_KEY, PersistentDataType.DOUBLE, clamped);
+        pilots.persistedCharge[slot] = clamped;
+        metrics.increment(BoostMetrics.Counter.PDC_WRITES);
     }
 
     // ======================
@@ -96,19 +190,37 @@ public class ChargeStorage {
     }
 
     public void persistChargeToPDC(HappyGhast ghast, Player player) {
-        BoostState state = boostStates.get(player.getUniqueId());
-        if (state != null && ghast.isValid()) {
-            double clamped = Math.max(0.0, Math.min(1.0, state.charge));
+        int slot = pilots.slotOf(player.getUniqueId());
+        if (slot != PilotRegistry.NO_SLOT && ghast.isValid()) {
+            double clamped = Math.max(0.0, Math.min(1.0, pilots.charge(slot)));
             ghast.getPersistentDataContainer().set(CHARGE_KEY, PersistentDataType.DOUBLE, clamped);
+            pilots.persistedCharge[slot] = clamped;
+            metrics.increment(BoostMetrics.Counter.PDC_WRITES);
             logger.logDebug("Charge", "Saved charge to PDC for ghast %s: %.2f", ghast.getUniqueId(), clamped);
         }
     }
 
+    public Double readChargeFromPDC(HappyGhast ghast) {
+        Double value = ghast.getPersistentDataContainer().get(CHARGE_KEY, PersistentDataType.DOUBLE);
+        if (value == null || !Double.isFinite(value)) return null;
+        return Math.max(0.0, Math.min(1.0, value));
+    }
+
+    /**
+     * Drops every trace of a dead ghast and frees its pilot's slot.
+     *
+     * @return the pilot that was flying it, or null
+     */
     public UUID clearGhastDataOnDeath(HappyGhast ghast) {
         UUID ghastId = ghast.getUniqueId();
         ghastChargeLevels.remove(ghastId);
-        UUID pilotId = ghastToPilot.remove(ghastId);
         ghast.getPersistentDataContainer().remove(CHARGE_KEY);
+
+        int slot = pilots.slotOfGhast(ghastId);
+        if (slot == PilotRegistry.NO_SLOT) return null;
+
+        UUID pilotId = pilots.pilotId(slot);
+        pilots.release(slot);
         return pilotId;
     }
 
@@ -0,0 +1,198 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import com.github.arzormc.happyghastboost.HappyGhastBoost;
+import com.github.arzormc.happyghastboost.config.BoostSettings;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads chunks ahead of boosting ghasts before they get there.
+ * <p>
+ * Pilots report the chunks along their heading. Missing ones go into a bounded, deduplicated queue per
+ * world, which a global-region task hands to Paper's async chunk API a few at a time. Loaded chunks are
+ * held with a plugin ticket that expires ticket-seconds after the last pilot passed over it, so a long
+ * flight doesn't leave a trail of loaded chunks behind.
+ */
+final class ChunkPreloader {
+
+    private static final double SAMPLE_SPACING = 8.0;
+    private static final double MAX_HORIZON = 320.0;
+
+    private final BoostManager manager;
+    private final HappyGhastBoost plugin;
+    private final Map<UUID, WorldQueue> worlds = new ConcurrentHashMap<>();
+
+    private ScheduledTask dispatchTask;
+    private volatile boolean running;
+    private long sweptAt;
+
+    ChunkPreloader(BoostManager manager) {
+        this.manager = manager;
+        this.plugin = manager.getPlugin();
+    }
+
+    /**
+     * Requests, tickets and expiry for one world. All access is under the queue's own lock.
+     */
+    private static final class WorldQueue {
+        final World world;
+        final LinkedHashSet<Long> queued = new LinkedHashSet<>();
+        final Set<Long> inFlight = new HashSet<>();
+        final Map<Long, Long> ticketExpiry = new HashMap<>();
+
+        WorldQueue(World world) {
+            this.world = world;
+        }
+    }
+
+    // ======================
+    // 🎬 Lifecycle
+    // ======================
+    void start() {
+        if (dispatchTask != null) return;
+        running = true;
+        dispatchTask = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, task -> dispatch(), 1L, 1L);
+    }
+
+    /**
+     * Stops dispatching and drops every ticket this plugin holds.
+     */
+    void stop() {
+        running = false;
+        if (dispatchTask != null) {
+            dispatchTask.cancel();
+            dispatchTask = null;
+        }
+
+        for (WorldQueue queue : worlds.values()) {
+            synchronized (queue) {
+                if (plugin.isEnabled()) {
+                    for (long key : queue.ticketExpiry.keySet()) {
+                        releaseTicket(queue.world, key);
+                    }
+                }
+                queue.queued.clear();
+                queue.ticketExpiry.clear();
+            }
+        }
+        worlds.clear();
+    }
+
+    // ======================
+    // 🧭 Pilot Side
+    // ======================
+
+    /**
+     * Walks the heading from the ghast's position for lookahead-seconds at its current speed, queueing chunks
+     * that aren't loaded and extending tickets on those that are. Runs on the thread that owns the ghast.
+     *
+     * @return distance in blocks to the first chunk on the path that isn't loaded, or infinity if all are
+     */
+    double scan(World world, double x, double z, double vx, double vz, BoostSettings.ChunkPreload config, long now) {
+        double speed = Math.sqrt(vx * vx + vz * vz);
+        if (speed < 1.0E-4) return Double.POSITIVE_INFINITY;
+
+        double dx = vx / speed;
+        double dz = vz / speed;
+        double horizon = Math.min(MAX_HORIZON, speed * 20.0 * config.lookaheadSeconds());
+
+        WorldQueue queue = worlds.computeIfAbsent(world.getUID(), id -> new WorldQueue(world));
+        double firstMissing = Double.POSITIVE_INFINITY;
+        long lastKey = Long.MIN_VALUE;
+
+        synchronized (queue) {
+            for (double travelled = 0.0; travelled <= horizon; travelled += SAMPLE_SPACING) {
+                int cx = (int) Math.floor(x + dx * travelled) >> 4;
+                int cz = (int) Math.floor(z + dz * travelled) >> 4;
+                long key = ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+                if (key == lastKey) continue;
+                lastKey = key;
+
+                if (queue.ticketExpiry.containsKey(key)) {
+                    queue.ticketExpiry.put(key, now + config.ticketMs());
+                    continue;
+                }
+                if (world.isChunkLoaded(cx, cz)) continue;
+
+                if (firstMissing == Double.POSITIVE_INFINITY) firstMissing = travelled;
+                if (!queue.inFlight.contains(key) && queue.queued.size() < config.maxQueuedPerWorld()) {
+                    queue.queued.add(key);
+                }
+            }
+        }
+        return firstMissing;
+    }
+
+    // ======================
+    // 📦 Dispatch & Tickets
+    // ======================
+    private void dispatch() {
+        BoostSettings.ChunkPreload config = manager.getSettings().chunkPreload();
+        long now = System.currentTimeMillis();
+        boolean sweep = now - sweptAt >= 1000L;
+        if (sweep) sweptAt = now;
+
+        for (WorldQueue queue : worlds.values()) {
+            List<Long> send = null;
+            synchronized (queue) {
+                Iterator<Long> pending = queue.queued.iterator();
+                while (pending.hasNext() && queue.inFlight.size() < config.maxInFlightPerWorld()) {
+                    long key = pending.next();
+                    pending.remove();
+                    queue.inFlight.add(key);
+                    if (send == null) send = new ArrayList<>();
+                    send.add(key);
+                }
+
+                if (sweep) {
+                    Iterator<Map.Entry<Long, Long>> tickets = queue.ticketExpiry.entrySet().iterator();
+                    while (tickets.hasNext()) {
+                        Map.Entry<Long, Long> ticket = tickets.next();
+                        if (ticket.getValue() > now) continue;
+                        tickets.remove();
+                        releaseTicket(queue.world, ticket.getKey());
+                    }
+                }
+            }
+
+            if (send != null) {
+                for (long key : send) {
+                    request(queue, key, config.ticketMs());
+                }
+            }
+        }
+    }
+
+    private void request(WorldQueue queue, long key, long ticketMs) {
+        int cx = (int) (key >> 32);
+        int cz = (int) key;
+        queue.world.getChunkAtAsync(cx, cz, true, true).whenComplete((chunk, error) -> {
+            // Completes on the thread that owns the chunk, which may add a ticket to it.
+            boolean ticketed = chunk != null && running && queue.world.addPluginChunkTicket(cx, cz, plugin);
+            synchronized (queue) {
+                queue.inFlight.remove(key);
+                if (ticketed) {
+                    queue.ticketExpiry.put(key, System.currentTimeMillis() + ticketMs);
+                }
+            }
+        });
+    }
+
+    private void releaseTicket(World world, long key) {
+        int cx = (int) (key >> 32);
+        int cz = (int) key;
+        Bukkit.getRegionScheduler().execute(plugin, world, cx, cz, () -> world.removePluginChunkTicket(cx, cz, plugin));
+    }
+}
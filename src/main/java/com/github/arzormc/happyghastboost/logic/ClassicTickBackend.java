@@ -0,0 +1,48 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import com.github.arzormc.happyghastboost.HappyGhastBoost;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.HappyGhast;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.UUID;
+
+/**
+ * One global timer on the main thread that walks every registered pilot. Used on plain Paper.
+ */
+final class ClassicTickBackend implements TickBackend {
+
+    private final HappyGhastBoost plugin;
+    private final BoostTickTasks tickTasks;
+
+    private BukkitTask loopTask;
+
+    ClassicTickBackend(HappyGhastBoost plugin, BoostTickTasks tickTasks) {
+        this.plugin = plugin;
+        this.tickTasks = tickTasks;
+    }
+
+    @Override
+    public void start() {
+        loopTask = Bukkit.getScheduler().runTaskTimer(plugin,
+                () -> tickTasks.tickAll(System.currentTimeMillis()), 0L, 1L);
+    }
+
+    @Override
+    public void stop() {
+        if (loopTask != null) {
+            loopTask.cancel();
+            loopTask = null;
+        }
+    }
+
+    @Override
+    public void track(HappyGhast ghast, int slot) {
+        // The global loop picks up new slots on its next run.
+    }
+
+    @Override
+    public void untrack(UUID ghastId) {
+        // Nothing scheduled per ghast.
+    }
+}
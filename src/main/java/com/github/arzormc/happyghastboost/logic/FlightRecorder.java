@@ -0,0 +1,193 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import com.github.arzormc.happyghastboost.HappyGhastBoost;
+import com.github.arzormc.happyghastboost.config.BoostSettings;
+import com.github.arzormc.happyghastboost.util.BoostLogger;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in binary recording of every pilot step, for tuning the forward-detection thresholds offline with
+ * {@link FlightReplay}.
+ * <p>
+ * Each step writes one fixed 64-byte sample into a memory-mapped ring file: no formatting, no allocation
+ * and no system call, so recording costs a few stores per pilot update. Once the ring is full the oldest
+ * samples are overwritten. Threads claim sample indexes from one counter and then write disjoint byte
+ * ranges with absolute puts, so region threads record side by side without locking.
+ */
+public final class FlightRecorder {
+
+    // ======================
+    // 📐 File Layout
+    // ======================
+    static final long MAGIC = 0x4847425245433031L; // "HGBREC01"
+    static final int HEADER_BYTES = 64;
+    static final int SAMPLE_BYTES = 64;
+
+    // Header: magic, sample size, capacity in samples, samples written so far (approximate while recording).
+    static final int H_MAGIC = 0;
+    static final int H_SAMPLE_BYTES = 8;
+    static final int H_CAPACITY = 16;
+    static final int H_WRITTEN = 24;
+
+    // Sample fields; inputs as the step saw them, charge and flags as the step left them.
+    static final int S_TIME = 0;        // long, the step's clock in ms; 0 marks a never-written sample
+    static final int S_X = 8;           // double ×3, ghast position
+    static final int S_Y = 16;
+    static final int S_Z = 24;
+    static final int S_GHAST_YAW = 32;  // float
+    static final int S_LOOK_YAW = 36;   // float
+    static final int S_LOOK_PITCH = 40; // float
+    static final int S_DOT = 44;        // float, NaN when not computed
+    static final int S_CHARGE = 48;     // float
+    static final int S_PILOT = 52;      // int, hash of the pilot's UUID
+    static final int S_SLOT = 56;       // short
+    static final int S_FLAGS = 58;      // short
+    static final int S_REFILL = 60;     // half-precision float, zone refill multiplier
+    static final int S_DRAIN = 62;      // half-precision float, zone drain multiplier
+
+    static final int F_POSITION = 1;
+    static final int F_BOOSTING = 1 << 1;
+    static final int F_FORWARD_KEY = 1 << 2;
+    static final int F_SPRINT_KEY = 1 << 3;
+    static final int F_OBSTACLE = 1 << 4;
+    static final int F_NO_BOOST_ZONE = 1 << 5;
+    static final int F_HOLDING = 1 << 6;
+    static final int F_COASTING = 1 << 7;
+    static final int F_SESSION_START = 1 << 8; // first sample since the pilot registered
+
+    private record Ring(FileChannel channel, MappedByteBuffer buffer, long capacity) {
+    }
+
+    private final HappyGhastBoost plugin;
+    private final BoostLogger logger;
+    private final AtomicLong cursor = new AtomicLong();
+
+    private volatile Ring ring; // null while off
+    private BoostSettings.FlightRecording config;
+
+    FlightRecorder(HappyGhastBoost plugin, BoostLogger logger) {
+        this.plugin = plugin;
+        this.logger = logger;
+    }
+
+    // ======================
+    // 🎬 Lifecycle
+    // ======================
+
+    /**
+     * Opens, closes or reopens the recording to match {@code config}. No-op if nothing changed.
+     * A file with the same capacity is continued; any other file is replaced.
+     */
+    public void apply(BoostSettings.FlightRecording config) {
+        if (config.equals(this.config) && (ring != null) == config.enabled()) return;
+
+        stop();
+        this.config = config;
+        if (!config.enabled()) return;
+
+        Path file = plugin.getDataFolder().toPath().resolve(config.file());
+        long capacity = config.maxSamples();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = HEADER_BYTES + capacity * SAMPLE_BYTES;
+            boolean resume = channel.size() == size;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+            resume &= buffer.getLong(H_MAGIC) == MAGIC && buffer.getInt(H_SAMPLE_BYTES) == SAMPLE_BYTES
+                    && buffer.getLong(H_CAPACITY) == capacity;
+            if (!resume) {
+                channel.truncate(size);
+                for (int at = 0; at < size; at += SAMPLE_BYTES) {
+                    buffer.putLong(at + S_TIME, 0L);
+                }
+                buffer.putLong(H_MAGIC, MAGIC);
+                buffer.putInt(H_SAMPLE_BYTES, SAMPLE_BYTES);
+                buffer.putLong(H_CAPACITY, capacity);
+                buffer.putLong(H_WRITTEN, 0L);
+            }
+
+            cursor.set(buffer.getLong(H_WRITTEN));
+            ring = new Ring(channel, buffer, capacity);
+            logger.logBasic("Config", "Recording flights to %s (%d samples, %s).", file, capacity, resume ? "continued" : "new");
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.logBasic("Config", "Flight recorder disabled: could not map %s: %s", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the sample count and flushes the mapping to disk. Called from onDisable and on reload.
+     */
+    public void stop() {
+        Ring current = ring;
+        if (current == null) return;
+
+        ring = null;
+        current.buffer().putLong(H_WRITTEN, cursor.get());
+        current.buffer().force();
+        try {
+            current.channel().close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    public boolean isRecording() {
+        return ring != null;
+    }
+
+    // ======================
+    // ✍️ Record
+    // ======================
+
+    /**
+     * Appends one sample for frame entry {@code i} after its step. Runs on the thread that owns the pilot.
+     */
+    void record(PilotRegistry pilots, TickFrame frame, int i, long now) {
+        Ring current = ring;
+        if (current == null) return;
+
+        int slot = frame.slots[i];
+        long index = cursor.getAndIncrement();
+        int at = HEADER_BYTES + (int) (index % current.capacity()) * SAMPLE_BYTES;
+
+        int flags = 0;
+        if (frame.hasPosition[i]) flags |= F_POSITION;
+        if (pilots.boosting[slot]) flags |= F_BOOSTING;
+        if (pilots.forwardKey[slot]) flags |= F_FORWARD_KEY;
+        if (pilots.sprintKey[slot]) flags |= F_SPRINT_KEY;
+        if (frame.obstacleAhead[i]) flags |= F_OBSTACLE;
+        if (frame.zone[i].noBoost()) flags |= F_NO_BOOST_ZONE;
+        if (pilots.holdingForward[slot]) flags |= F_HOLDING;
+        if (pilots.coastStartTime[slot] != 0L) flags |= F_COASTING;
+        if (!pilots.recordingStarted[slot]) {
+            pilots.recordingStarted[slot] = true;
+            flags |= F_SESSION_START;
+        }
+
+        MappedByteBuffer out = current.buffer();
+        out.putLong(at + S_TIME, 0L); // a wrapped ring still holds the old sample here
+        out.putDouble(at + S_X, frame.x[i]);
+        out.putDouble(at + S_Y, frame.y[i]);
+        out.putDouble(at + S_Z, frame.z[i]);
+        out.putFloat(at + S_GHAST_YAW, frame.ghastYaw[i]);
+        out.putFloat(at + S_LOOK_YAW, frame.lookYaw[i]);
+        out.putFloat(at + S_LOOK_PITCH, frame.lookPitch[i]);
+        out.putFloat(at + S_DOT, (float) pilots.lastDot[slot]);
+        out.putFloat(at + S_CHARGE, (float) pilots.charge[slot]);
+        out.putInt(at + S_PILOT, pilots.pilotIds[slot].hashCode());
+        out.putShort(at + S_SLOT, (short) slot);
+        out.putShort(at + S_FLAGS, (short) flags);
+        out.putShort(at + S_REFILL, Float.floatToFloat16((float) frame.zone[i].refillMultiplier()));
+        out.putShort(at + S_DRAIN, Float.floatToFloat16((float) frame.zone[i].drainMultiplier()));
+        // Time last: a reader treats a sample as written once its time is set.
+        out.putLong(at + S_TIME, now);
+        out.putLong(H_WRITTEN, index + 1);
+    }
+}
@@ -0,0 +1,370 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import com.github.arzormc.happyghastboost.config.BoostPresetManager;
+import com.github.arzormc.happyghastboost.config.BoostSettings;
+import com.github.arzormc.happyghastboost.config.ZoneIndex;
+import com.github.arzormc.happyghastboost.util.BoostLogger;
+import com.github.arzormc.happyghastboost.util.BoostMetrics;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Offline replay of a {@link FlightRecorder} file through {@link BoostStateMachine}, to see how other
+ * thresholds would have changed boost triggers, losses and drain on real flights. Needs no server:
+ * <pre>
+ * java -cp HappyGhastBoost.jar:paper-api.jar com.github.arzormc.happyghastboost.logic.FlightReplay \
+ *     flight-recording.bin [--config config.yml] [--preset name] [key=value ...]
+ * </pre>
+ * Each {@code key=value} overrides a config.yml key, e.g. {@code forward-dot-threshold=0.7}. The recording is
+ * replayed twice, with the config as-is (to show how closely the replay matches what was recorded) and with
+ * the overrides. Pilots are stepped at their recorded cadence, and every pilot uses the chosen preset.
+ */
+public final class FlightReplay {
+
+    // Triggers and ends further apart than this aren't considered the same event.
+    private static final long MATCH_WINDOW_MS = 3000L;
+
+    private record Sample(long time, double x, double y, double z, float ghastYaw, float lookYaw, float lookPitch,
+                          float charge, int pilot, int flags, float refill, float drain) {
+
+        boolean has(int flag) {
+            return (flags & flag) != 0;
+        }
+    }
+
+    /**
+     * What happened to the boosts of one run, recorded or replayed.
+     */
+    private static final class Outcome {
+        final String label;
+        final Map<Integer, List<Long>> triggers = new HashMap<>();
+        final Map<Integer, List<Long>> ends = new HashMap<>();
+        final float[] charge;
+        int lost;
+        int emptied;
+        int blocked;
+        int zoned;
+        long boostingMs;
+
+        Outcome(String label, int samples) {
+            this.label = label;
+            this.charge = new float[samples];
+        }
+
+        int triggerCount() {
+            return triggers.values().stream().mapToInt(List::size).sum();
+        }
+    }
+
+    private FlightReplay() {
+    }
+
+    // ======================
+    // 🚪 Entry Point
+    // ======================
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: FlightReplay <recording> [--config <config.yml>] [--preset <name>] [key=value ...]");
+            return;
+        }
+
+        Path recording = Path.of(args[0]);
+        File configFile = new File("plugins/HappyGhastBoost/config.yml");
+        String presetName = null;
+        Map<String, Object> overrides = new LinkedHashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("--config") && i + 1 < args.length) {
+                configFile = new File(args[++i]);
+            } else if (args[i].equals("--preset") && i + 1 < args.length) {
+                presetName = args[++i];
+            } else if (args[i].contains("=")) {
+                String[] pair = args[i].split("=", 2);
+                overrides.put(pair[0].trim(), parseValue(pair[1].trim()));
+            } else {
+                System.out.println("Ignoring argument: " + args[i]);
+            }
+        }
+
+        List<Sample> samples = read(recording);
+        if (samples.isEmpty()) {
+            System.out.println("No samples in " + recording + ".");
+            return;
+        }
+
+        Logger log = Logger.getLogger("FlightReplay");
+        YamlConfiguration config = configFile.isFile()
+                ? YamlConfiguration.loadConfiguration(configFile)
+                : YamlConfiguration.loadConfiguration(new StringReader(""));
+        if (!configFile.isFile()) {
+            System.out.println(configFile + " not found; replaying with default settings.");
+        }
+        BoostSettings baseline = BoostPresetManager.compile(config, log);
+        overrides.forEach(config::set);
+        BoostSettings tuned = BoostPresetManager.compile(config, log);
+
+        BoostPresetManager.BoostPreset preset = baseline.defaultPreset();
+        if (presetName != null) {
+            preset = findPreset(tuned, presetName);
+            if (preset == null) {
+                System.out.println("Unknown preset '" + presetName + "'; using the default preset.");
+                preset = tuned.defaultPreset();
+            }
+        }
+
+        Outcome recorded = recorded(samples);
+        Outcome before = replay(samples, baseline, presetFor(baseline, preset), "replay (config as-is)");
+        Outcome after = replay(samples, tuned, presetFor(tuned, preset), "replay " + (overrides.isEmpty() ? "(no overrides)" : overrides));
+
+        long span = samples.getLast().time() - samples.getFirst().time();
+        System.out.printf(Locale.ROOT, "%d samples, %d pilots, %.1f s of flying, preset '%s'.%n",
+                samples.size(), samples.stream().mapToInt(Sample::pilot).distinct().count(), span / 1000.0, preset.name);
+        report(recorded);
+        report(before);
+        report(after);
+        compare(recorded, before);
+        compare(recorded, after);
+    }
+
+    private static Object parseValue(String raw) {
+        if (raw.equalsIgnoreCase("true") || raw.equalsIgnoreCase("false")) return Boolean.parseBoolean(raw);
+        try {
+            return raw.contains(".") ? (Object) Double.parseDouble(raw) : (Object) Long.parseLong(raw);
+        } catch (NumberFormatException e) {
+            return raw;
+        }
+    }
+
+    private static BoostPresetManager.BoostPreset findPreset(BoostSettings settings, String name) {
+        for (BoostPresetManager.BoostPreset preset : settings.presets()) {
+            if (preset.name.equalsIgnoreCase(name)) return preset;
+        }
+        return name.equalsIgnoreCase("default") ? settings.defaultPreset() : null;
+    }
+
+    // The preset of the same name as compiled with these settings, so overrides of preset keys apply.
+    private static BoostPresetManager.BoostPreset presetFor(BoostSettings settings, BoostPresetManager.BoostPreset preset) {
+        BoostPresetManager.BoostPreset match = findPreset(settings, preset.name);
+        return match != null ? match : settings.defaultPreset();
+    }
+
+    // ======================
+    // 📖 Read
+    // ======================
+    private static List<Sample> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (in.limit() < FlightRecorder.HEADER_BYTES || in.getLong(FlightRecorder.H_MAGIC) != FlightRecorder.MAGIC
+                    || in.getInt(FlightRecorder.H_SAMPLE_BYTES) != FlightRecorder.SAMPLE_BYTES) {
+                throw new IOException(file + " is not a flight recording.");
+            }
+
+            long capacity = Math.min(in.getLong(FlightRecorder.H_CAPACITY),
+                    (in.limit() - FlightRecorder.HEADER_BYTES) / FlightRecorder.SAMPLE_BYTES);
+            long written = in.getLong(FlightRecorder.H_WRITTEN);
+            long oldest = written > capacity ? written % capacity : 0L;
+
+            List<Sample> samples = new ArrayList<>((int) Math.min(capacity, written));
+            for (long n = 0; n < capacity; n++) {
+                int at = FlightRecorder.HEADER_BYTES + (int) ((oldest + n) % capacity) * FlightRecorder.SAMPLE_BYTES;
+                long time = in.getLong(at + FlightRecorder.S_TIME);
+                if (time == 0L) continue;
+
+                samples.add(new Sample(time,
+                        in.getDouble(at + FlightRecorder.S_X),
+                        in.getDouble(at + FlightRecorder.S_Y),
+                        in.getDouble(at + FlightRecorder.S_Z),
+                        in.getFloat(at + FlightRecorder.S_GHAST_YAW),
+                        in.getFloat(at + FlightRecorder.S_LOOK_YAW),
+                        in.getFloat(at + FlightRecorder.S_LOOK_PITCH),
+                        in.getFloat(at + FlightRecorder.S_CHARGE),
+                        in.getInt(at + FlightRecorder.S_PILOT),
+                        in.getShort(at + FlightRecorder.S_FLAGS) & 0xFFFF,
+                        Float.float16ToFloat(in.getShort(at + FlightRecorder.S_REFILL)),
+                        Float.float16ToFloat(in.getShort(at + FlightRecorder.S_DRAIN))));
+            }
+            // Stable, so samples of one tick keep their recorded order.
+            samples.sort(Comparator.comparingLong(Sample::time));
+            return samples;
+        }
+    }
+
+    // ======================
+    // 🎞️ Recorded & Replayed Outcomes
+    // ======================
+    private static Outcome recorded(List<Sample> samples) {
+        Outcome outcome = new Outcome("recorded", samples.size());
+        Map<Integer, Sample> previous = new HashMap<>();
+
+        for (int n = 0; n < samples.size(); n++) {
+            Sample sample = samples.get(n);
+            Sample last = sample.has(FlightRecorder.F_SESSION_START) ? null : previous.get(sample.pilot());
+            boolean wasBoosting = last != null && last.has(FlightRecorder.F_BOOSTING);
+            boolean boosting = sample.has(FlightRecorder.F_BOOSTING);
+
+            if (wasBoosting) outcome.boostingMs += sample.time() - last.time();
+            if (!wasBoosting && boosting) {
+                outcome.triggers.computeIfAbsent(sample.pilot(), pilot -> new ArrayList<>()).add(sample.time());
+            } else if (wasBoosting && !boosting) {
+                outcome.ends.computeIfAbsent(sample.pilot(), pilot -> new ArrayList<>()).add(sample.time());
+                // Same order the step checks them in: terrain, then no-boost zones, then charge.
+                if (sample.has(FlightRecorder.F_OBSTACLE)) outcome.blocked++;
+                else if (sample.has(FlightRecorder.F_NO_BOOST_ZONE)) outcome.zoned++;
+                else if (sample.charge() <= 0.0f) outcome.emptied++;
+                else outcome.lost++;
+            }
+            outcome.charge[n] = sample.charge();
+            previous.put(sample.pilot(), sample);
+        }
+        return outcome;
+    }
+
+    private static Outcome replay(List<Sample> samples, BoostSettings settings, BoostPresetManager.BoostPreset preset, String label) {
+        Outcome outcome = new Outcome(label, samples.size());
+
+        BoostLogger logger = new BoostLogger(null);
+        logger.setLoggingMode(BoostLogger.LoggingMode.OFF);
+        BoostMetrics metrics = new BoostMetrics();
+        PilotRegistry pilots = new PilotRegistry((int) samples.stream().mapToInt(Sample::pilot).distinct().count());
+        BoostStateMachine stateMachine = new BoostStateMachine(pilots, logger, metrics, new LoadGovernor(null));
+        TickFrame frame = new TickFrame(1);
+        Map<Integer, Integer> slots = new HashMap<>();
+        Map<Integer, Long> lastTime = new HashMap<>();
+
+        try {
+            for (int n = 0; n < samples.size(); n++) {
+                Sample sample = samples.get(n);
+                Integer known = slots.get(sample.pilot());
+                int slot;
+                if (known == null || sample.has(FlightRecorder.F_SESSION_START)) {
+                    if (known != null) pilots.release(known);
+                    slot = pilots.registerDetached(new UUID(0L, sample.pilot()));
+                    if (slot == PilotRegistry.NO_SLOT) continue; // more pilots than a registry holds
+                    pilots.refillPerSecond[slot] = preset.refillPerSecond;
+                    pilots.drainPerSecond[slot] = preset.drainPerSecond;
+                    pilots.boostSpeed[slot] = preset.boostSpeed;
+                    pilots.easeIn[slot] = preset.easeIn;
+                    pilots.easeOut[slot] = preset.easeOut;
+                    pilots.charge[slot] = sample.charge();
+                    slots.put(sample.pilot(), slot);
+                    lastTime.remove(sample.pilot());
+                } else {
+                    slot = known;
+                }
+
+                frame.clear();
+                int i = frame.add(slot, null, null, "replay");
+                frame.hasPosition[i] = sample.has(FlightRecorder.F_POSITION);
+                frame.x[i] = sample.x();
+                frame.y[i] = sample.y();
+                frame.z[i] = sample.z();
+                frame.ghastYaw[i] = sample.ghastYaw();
+                frame.lookYaw[i] = sample.lookYaw();
+                frame.lookPitch[i] = sample.lookPitch();
+                frame.obstacleAhead[i] = sample.has(FlightRecorder.F_OBSTACLE) && pilots.boosting[slot];
+                frame.zone[i] = zoneOf(sample);
+                pilots.forwardKey[slot] = sample.has(FlightRecorder.F_FORWARD_KEY);
+                pilots.sprintKey[slot] = sample.has(FlightRecorder.F_SPRINT_KEY);
+
+                boolean wasBoosting = pilots.boosting[slot];
+                long lost = metrics.get(BoostMetrics.Counter.BOOSTS_LOST);
+                long emptied = metrics.get(BoostMetrics.Counter.BOOSTS_EMPTIED);
+                long zoned = metrics.get(BoostMetrics.Counter.BOOSTS_ZONED);
+                stateMachine.step(frame, i, settings, null, sample.time());
+                boolean boosting = pilots.boosting[slot];
+
+                Long last = lastTime.put(sample.pilot(), sample.time());
+                if (wasBoosting && last != null) outcome.boostingMs += sample.time() - last;
+                if (!wasBoosting && boosting) {
+                    outcome.triggers.computeIfAbsent(sample.pilot(), pilot -> new ArrayList<>()).add(sample.time());
+                } else if (wasBoosting && !boosting) {
+                    outcome.ends.computeIfAbsent(sample.pilot(), pilot -> new ArrayList<>()).add(sample.time());
+                    if (metrics.get(BoostMetrics.Counter.BOOSTS_EMPTIED) != emptied) outcome.emptied++;
+                    else if (metrics.get(BoostMetrics.Counter.BOOSTS_LOST) != lost) outcome.lost++;
+                    else if (metrics.get(BoostMetrics.Counter.BOOSTS_ZONED) != zoned) outcome.zoned++;
+                    else outcome.blocked++;
+                }
+                outcome.charge[n] = (float) pilots.charge[slot];
+            }
+        } finally {
+            logger.shutdown();
+        }
+        return outcome;
+    }
+
+    private static ZoneIndex.Effect zoneOf(Sample sample) {
+        boolean noBoost = sample.has(FlightRecorder.F_NO_BOOST_ZONE);
+        if (!noBoost && sample.refill() == 1.0f && sample.drain() == 1.0f) return ZoneIndex.Effect.NONE;
+        return new ZoneIndex.Effect(noBoost, Double.POSITIVE_INFINITY, sample.refill(), sample.drain());
+    }
+
+    // ======================
+    // 📊 Report
+    // ======================
+    private static void report(Outcome outcome) {
+        int triggers = outcome.triggerCount();
+        System.out.printf(Locale.ROOT,
+                "%-40s %5d triggers, %5d lost to misalignment, %5d ran empty, %5d cut by terrain, %5d cut by no-boost zones, %.1f s boosting (%.2f s per boost)%n",
+                outcome.label + ":", triggers, outcome.lost, outcome.emptied, outcome.blocked, outcome.zoned,
+                outcome.boostingMs / 1000.0, triggers > 0 ? outcome.boostingMs / 1000.0 / triggers : 0.0);
+    }
+
+    private static void compare(Outcome recorded, Outcome replayed) {
+        double[] triggerShift = shift(recorded.triggers, replayed.triggers);
+        double[] endShift = shift(recorded.ends, replayed.ends);
+
+        double chargeError = 0.0;
+        for (int n = 0; n < recorded.charge.length; n++) {
+            chargeError += Math.abs(replayed.charge[n] - recorded.charge[n]);
+        }
+        chargeError /= recorded.charge.length;
+
+        System.out.printf(Locale.ROOT,
+                "%s vs recorded: triggers %+.0f ms on average (%d matched, %d unmatched), boost ends %+.0f ms (%d matched, %d unmatched), charge off by %.1f%% on average%n",
+                replayed.label, triggerShift[0], (long) triggerShift[1], (long) triggerShift[2],
+                endShift[0], (long) endShift[1], (long) endShift[2], chargeError * 100.0);
+    }
+
+    /**
+     * Mean time shift from each recorded event to the nearest replayed event of the same pilot within the
+     * match window, the number matched, and the number of events on either side left unmatched.
+     */
+    private static double[] shift(Map<Integer, List<Long>> recorded, Map<Integer, List<Long>> replayed) {
+        long total = 0L;
+        int matched = 0;
+        int recordedCount = 0;
+        int replayedCount = replayed.values().stream().mapToInt(List::size).sum();
+
+        for (Map.Entry<Integer, List<Long>> pilot : recorded.entrySet()) {
+            List<Long> candidates = replayed.getOrDefault(pilot.getKey(), List.of());
+            for (long time : pilot.getValue()) {
+                recordedCount++;
+                long best = Long.MAX_VALUE;
+                for (long candidate : candidates) {
+                    if (Math.abs(candidate - time) < Math.abs(best)) best = candidate - time;
+                }
+                if (Math.abs(best) <= MATCH_WINDOW_MS) {
+                    total += best;
+                    matched++;
+                }
+            }
+        }
+        double mean = matched > 0 ? (double) total / matched : 0.0;
+        return new double[]{mean, matched, (recordedCount - matched) + Math.max(0, replayedCount - matched)};
+    }
+}
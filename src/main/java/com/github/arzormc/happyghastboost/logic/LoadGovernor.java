@@ -0,0 +1,124 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import com.github.arzormc.happyghastboost.config.BoostSettings;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+
+/**
+ * Sheds boost work while the server is struggling. Once a second it samples Paper's average tick time
+ * and moves at most one {@link Level} up or down. It climbs as soon as MSPT crosses a level's threshold.
+ * It steps back only once MSPT is recover-margin below that threshold and the level has held for
+ * min-level-seconds, so a server hovering around a threshold doesn't flap.
+ */
+public final class LoadGovernor {
+
+    /**
+     * Each level keeps everything the levels below it turned off.
+     */
+    public enum Level {
+        NORMAL("normal"),
+        NO_TRAILS("trails off"),
+        SLOW_HUD("trails off, HUD slowed"),
+        SLOW_IDLE("trails off, HUD and idle pilots slowed"),
+        SPEED_CAP("trails off, HUD and idle pilots slowed, boost speed capped");
+
+        public final String label;
+
+        Level(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final Level[] LEVELS = Level.values();
+
+    private final BoostManager manager;
+
+    private volatile Level level = Level.NORMAL;
+    private volatile double lastMspt;
+    private long levelSince;
+    private boolean unsupported;
+    private ScheduledTask task;
+
+    LoadGovernor(BoostManager manager) {
+        this.manager = manager;
+    }
+
+    // ======================
+    // 🎬 Lifecycle
+    // ======================
+    void start() {
+        if (task != null) return;
+        task = Bukkit.getGlobalRegionScheduler().runAtFixedRate(manager.getPlugin(), scheduled -> sample(), 20L, 20L);
+    }
+
+    void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        level = Level.NORMAL;
+    }
+
+    // ======================
+    // 🚦 Level
+    // ======================
+    public Level level() {
+        return level;
+    }
+
+    public double lastMspt() {
+        return lastMspt;
+    }
+
+    boolean isAtLeast(Level threshold) {
+        return level.ordinal() >= threshold.ordinal();
+    }
+
+    private void sample() {
+        BoostSettings.LoadShedding config = manager.getSettings().loadShedding();
+        if (!config.enabled() || unsupported) {
+            if (level != Level.NORMAL) change(Level.NORMAL, 0.0);
+            return;
+        }
+
+        double mspt;
+        try {
+            mspt = Bukkit.getAverageTickTime();
+        } catch (UnsupportedOperationException e) {
+            // Folia has no single server tick to average.
+            unsupported = true;
+            manager.getLogger().logBasic("Scheduler", "Load shedding disabled: this server does not report an average tick time.");
+            return;
+        }
+        lastMspt = mspt;
+
+        int current = level.ordinal();
+        if (current < LEVELS.length - 1 && mspt >= enterMspt(config, LEVELS[current + 1])) {
+            change(LEVELS[current + 1], mspt);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (current > 0 && now - levelSince >= config.minLevelMs()
+                && mspt < enterMspt(config, level) - config.recoverMarginMspt()) {
+            change(LEVELS[current - 1], mspt);
+        }
+    }
+
+    private static double enterMspt(BoostSettings.LoadShedding config, Level level) {
+        return switch (level) {
+            case NORMAL -> 0.0;
+            case NO_TRAILS -> config.trailsOffMspt();
+            case SLOW_HUD -> config.slowHudMspt();
+            case SLOW_IDLE -> config.slowIdleMspt();
+            case SPEED_CAP -> config.speedCapMspt();
+        };
+    }
+
+    private void change(Level next, double mspt) {
+        Level previous = level;
+        level = next;
+        levelSince = System.currentTimeMillis();
+        manager.getLogger().logBasic("Scheduler", "Load shedding %s → %s (%.1f ms/tick).", previous, next, mspt);
+    }
+}
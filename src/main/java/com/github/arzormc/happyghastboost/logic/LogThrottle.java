@@ -0,0 +1,19 @@
+package com.github.arzormc.happyghastboost.logic;
+
+/**
+ * Per-pilot log rate limits. Each channel owns one timestamp per registry slot, so checking a throttle
+ * is an array read and the memory is bounded by the registry's capacity.
+ */
+enum LogThrottle {
+    ALIGN(300L),
+    TICK(500L),
+    ACTIONBAR(250L);
+
+    static final int COUNT = values().length;
+
+    final long intervalMs;
+
+    LogThrottle(long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+}
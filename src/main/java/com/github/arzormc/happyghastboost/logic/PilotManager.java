@@ -1,34 +1,36 @@
 package com.github.arzormc.happyghastboost.logic;
 
 import com.github.arzormc.happyghastboost.util.BoostLogger;
+import com.github.arzormc.happyghastboost.util.FlightStatsStore;
 import com.github.arzormc.happyghastboost.config.BoostPresetManager;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Location;
 import org.bukkit.entity.HappyGhast;
 import org.bukkit.entity.Player;
 
-import java.util.*;
+import java.util.UUID;
 
 public class PilotManager {
 
     private final BoostLogger logger;
     private final BoostPresetManager presetManager;
     private final ChargeStorage chargeStorage;
-    private final Map<UUID, BoostState> boostStates;
-
-    private final Map<UUID, UUID> ghastToPilot = new HashMap<>();
-    private final Set<UUID> recentlyUnregistered = new HashSet<>();
-    private final Map<UUID, Location> lastGhastLocation = new HashMap<>();
-    private final Map<UUID, String> lastVerboseSnapshot = new HashMap<>();
+    private final BoostTickTasks tickTasks;
+    private final PilotRegistry pilots;
+    private final FlightStatsStore flightStats;
 
     public PilotManager(BoostLogger logger,
                         BoostPresetManager presetManager,
                         ChargeStorage chargeStorage,
-                        Map<UUID, BoostState> boostStates) {
+                        BoostTickTasks tickTasks,
+                        PilotRegistry pilots,
+                        FlightStatsStore flightStats) {
         this.logger = logger;
         this.presetManager = presetManager;
         this.chargeStorage = chargeStorage;
-        this.boostStates = boostStates;
+        this.tickTasks = tickTasks;
+        this.pilots = pilots;
+        this.flightStats = flightStats;
     }
 
     // ======================
@@ -38,80 +40,161 @@ public class PilotManager {
         UUID playerId = player.getUniqueId();
         UUID ghastId = ghast.getUniqueId();
 
-        ghastToPilot.put(ghastId, playerId);
-
-        BoostState state = boostStates.get(playerId);
-        if (state == null) {
-            state = new BoostState();
-            boostStates.put(playerId, state);
-        } else {
-            state.boosting = false;
-            state.isHoldingForward = false;
-            state.forwardStartTime = 0L;
-            state.mustReleaseBeforeNextBoost = false;
+        int previousSlot = pilots.slotOf(playerId);
+        if (previousSlot != PilotRegistry.NO_SLOT && !ghastId.equals(pilots.ghastId(previousSlot))) {
+            tickTasks.onPilotUnregistered(pilots.ghastId(previousSlot));
         }
 
-        BoostPresetManager.BoostPreset preset = presetManager.getPresetFor(player);
-        state.refillRate = preset.refillRate;
-        state.drainRate = preset.drainRate;
-        state.particle = preset.particle;
+        int slot = pilots.register(player, ghast);
+        if (slot == PilotRegistry.NO_SLOT) {
+            logger.logBasic("Pilot", "No free pilot slot for %s (all %d taken); raise max-pilots in config.yml.",
+                    player.getName(), pilots.capacity());
+            return;
+        }
 
         Double savedCharge = chargeStorage.getAndRemoveChargeLevel(ghastId);
-        if (savedCharge != null) {
-            state.charge = Math.max(0.0, Math.min(1.0, savedCharge));
-            logger.logDebug("Charge", "Restored saved charge for ghast %s: %.2f", ghastId, state.charge);
+        if (savedCharge == null) {
+            savedCharge = chargeStorage.readChargeFromPDC(ghast);
         }
+        Double restoredCharge = savedCharge;
+        boolean rejoined = previousSlot != PilotRegistry.NO_SLOT;
 
-        if (player.getVehicle() == ghast && ghast.isValid()) {
-            lastGhastLocation.put(ghast.getUniqueId(), ghast.getLocation().clone());
+        Runnable init = () -> {
+            if (rejoined) pilots.resetFlight(slot);
+            refreshPermissions(player, slot, System.currentTimeMillis());
+
+            if (restoredCharge != null) {
+                pilots.charge[slot] = Math.max(0.0, Math.min(1.0, restoredCharge));
+                pilots.persistedCharge[slot] = pilots.charge[slot]; // cached values were written to PDC on dismount
+                logger.logDebug("Charge", "Restored saved charge for ghast %s: %.2f", ghastId, pilots.charge[slot]);
+            }
+
+            if (player.getVehicle() == ghast && ghast.isValid()) {
+                Location location = ghast.getLocation();
+                pilots.lastX[slot] = location.getX();
+                pilots.lastY[slot] = location.getY();
+                pilots.lastZ[slot] = location.getZ();
+                pilots.hasLastPosition[slot] = true;
+            }
+        };
+        // A fresh slot isn't ticked by anyone yet; a held one may be mid-step on the ghast's thread.
+        if (rejoined) {
+            tickTasks.runOnSlotOwner(ghast, slot, init);
+        } else {
+            init.run();
         }
 
-        logger.logBasic("Pilot", "Assigned %s as pilot of Ghast %s", player.getName(), ghastId);
+        // Keys already held while mounting won't produce an input event until they change.
+        tickTasks.onInput(player, player.getCurrentInput());
+        tickTasks.onPilotRegistered(ghast, slot);
+
+        logger.logBasic("Pilot", "Assigned %s as pilot of Ghast %s (slot %d)", player.getName(), ghastId, slot);
     }
 
     public void unregisterPilot(Player player) {
         UUID playerId = player.getUniqueId();
-        BoostState state = boostStates.remove(playerId);
+        int slot = pilots.slotOf(playerId);
 
-        UUID ghastId = null;
-        for (Map.Entry<UUID, UUID> entry : ghastToPilot.entrySet()) {
-            if (entry.getValue().equals(playerId)) {
-                ghastId = entry.getKey();
-                break;
-            }
-        }
+        if (slot != PilotRegistry.NO_SLOT) {
+            UUID ghastId = pilots.ghastId(slot);
+            double charge = pilots.charge(slot);
 
-        if (ghastId != null) {
-            ghastToPilot.remove(ghastId);
-            if (state != null) {
-                chargeStorage.saveChargeLevel(ghastId, state.charge);
-                logger.logDebug( "Charge", "Saved charge for ghast %s: %.2f", ghastId, state.charge);
+            if (pilots.slotOfGhast(ghastId) == slot) {
+                tickTasks.onPilotUnregistered(ghastId);
             }
+            chargeStorage.saveChargeLevel(ghastId, charge);
+            logger.logDebug("Charge", "Saved charge for ghast %s: %.2f", ghastId, charge);
+
+            pilots.shipFlightStats(slot, flightStats, System.currentTimeMillis());
+            pilots.release(slot);
         }
 
         player.sendActionBar(Component.empty());
-        recentlyUnregistered.add(playerId);
-        lastVerboseSnapshot.remove(playerId);
 
         logger.logBasic("Pilot", "Unregistered pilot %s", player.getName());
     }
 
+    /**
+     * Drops every pilot's cached preset and use permission. Each is resolved again on its next tick, on the
+     * thread that owns the pilot.
+     */
+    public void reapplyPresets() {
+        for (int slot = 0, end = pilots.highWater(); slot < end; slot++) {
+            if (!pilots.isActive(slot)) continue;
+
+            pilots.permissionsCheckedAt[slot] = 0L;
+            pilots.wake(slot);
+        }
+
+        logger.logDebug("Pilot", "Queued preset refresh for %d active pilots.", pilots.size());
+    }
+
+    /**
+     * Hands the flight stats of the ghast's pilot to the stats store before the ghast's slot is dropped.
+     */
+    public void shipFlightStats(UUID ghastId) {
+        int slot = pilots.slotOfGhast(ghastId);
+        if (slot != PilotRegistry.NO_SLOT) {
+            pilots.shipFlightStats(slot, flightStats, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Hands every pilot's flight stats to the stats store. Called from onDisable once the boost loop has stopped.
+     */
+    public void shipAllFlightStats() {
+        long now = System.currentTimeMillis();
+        for (int slot = 0, end = pilots.highWater(); slot < end; slot++) {
+            if (pilots.isActive(slot)) pilots.shipFlightStats(slot, flightStats, now);
+        }
+    }
+
+    /**
+     * Same as {@link #reapplyPresets()} for one player, if they are a pilot.
+     */
+    public void invalidatePermissions(Player player) {
+        int slot = pilots.slotOf(player.getUniqueId());
+        if (slot == PilotRegistry.NO_SLOT) return;
+
+        pilots.permissionsCheckedAt[slot] = 0L;
+        pilots.wake(slot);
+    }
+
+    /**
+     * Resolves the pilot's preset and use permission and caches both on the slot. The tick loop calls this
+     * once per permission-refresh-seconds; everything in between reads the cache.
+     */
+    void refreshPermissions(Player player, int slot, long now) {
+        BoostPresetManager.BoostPreset preset = presetManager.getPresetFor(player);
+        pilots.refillPerSecond[slot] = preset.refillPerSecond;
+        pilots.drainPerSecond[slot] = preset.drainPerSecond;
+        pilots.boostSpeed[slot] = preset.boostSpeed;
+        pilots.particle[slot] = preset.particle;
+        pilots.easeIn[slot] = preset.easeIn;
+        pilots.easeOut[slot] = preset.easeOut;
+
+        pilots.usePermitted[slot] = player.hasPermission("happyghastboost.use");
+        pilots.permissionsCheckedAt[slot] = now;
+
+        logger.logDebug("Pilot", "Resolved preset '%s' for %s.", preset.name, player.getName());
+    }
+
     // ======================
     // 🌐 Accessors
     // ======================
-    public Map<UUID, UUID> getGhastToPilotMap() {
-        return ghastToPilot;
-    }
-
-    public Map<UUID, Location> getLastGhastLocations() {
-        return lastGhastLocation;
+    public UUID getPilotOf(UUID ghastId) {
+        return pilots.pilotOf(ghastId);
     }
 
-    public Set<UUID> getRecentlyUnregistered() {
-        return recentlyUnregistered;
+    /**
+     * The ghast this player is piloting, or null if they are not a registered pilot.
+     */
+    public HappyGhast getGhastOf(Player player) {
+        int slot = pilots.slotOf(player.getUniqueId());
+        return slot != PilotRegistry.NO_SLOT ? pilots.ghast(slot) : null;
     }
 
-    public Map<UUID, String> getLastVerboseSnapshot() {
-        return lastVerboseSnapshot;
+    public PilotRegistry getPilots() {
+        return pilots;
     }
-}
\ No newline at end of file
+}
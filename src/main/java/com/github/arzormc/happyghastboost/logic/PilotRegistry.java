@@ -0,0 +1,475 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import com.github.arzormc.happyghastboost.config.ZoneIndex;
+import com.github.arzormc.happyghastboost.util.EasingCurve;
+import com.github.arzormc.happyghastboost.util.FlightStatsStore;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.HappyGhast;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dense per-pilot state store. Every active pilot owns an int slot, and each field lives in a parallel
+ * array indexed by that slot so the tick loop walks memory linearly instead of hashing UUIDs.
+ * Slots are recycled through a free list when a pilot unregisters.
+ * <p>
+ * The registry is also the pilot↔ghast index: both directions resolve to the same slot in O(1), and
+ * register/release keep them in sync.
+ * <p>
+ * The arrays are sized once and never reallocated, so region threads can keep working on their own slots
+ * while other pilots register. Structural changes (register, release) are synchronized. Per-slot fields
+ * are only written by the thread that ticks that pilot, which is the main thread or the ghast's region
+ * thread, or by a compute pool thread stepping that pilot while the main thread waits for it.
+ */
+public final class PilotRegistry {
+
+    public static final int NO_SLOT = -1;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 16_384;
+
+    private final Map<UUID, Integer> slotByPilot = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> slotByGhast = new ConcurrentHashMap<>();
+
+    private int[] freeSlots;
+    private int freeCount;
+    private volatile int highWater;
+    private volatile int size;
+
+    // ======================
+    // 🪪 Identity
+    // ======================
+    boolean[] active;
+    UUID[] pilotIds;
+    UUID[] ghastIds;
+    Player[] players;
+    HappyGhast[] ghasts;
+    boolean[] skipNextTick;
+
+    // ======================
+    // ⏱️ Cadence
+    // ======================
+    long[] lastUpdateAt;
+    long[] nextUpdateAt;
+
+    // ======================
+    // 🔋 Boost State
+    // ======================
+    double[] charge;
+    double[] persistedCharge; // last value written to the ghast's PDC, NaN if unknown
+    boolean[] boosting;
+    long[] boostStartTime;
+    long[] coastStartTime; // when the last boost ended and slowdown began, 0 once the ghast is released
+    double[] coastSpeed;   // speed at that moment
+    double[] speedCap;     // chunk-preload governor limit in blocks/tick, infinity when the path ahead is loaded
+    long[] preloadScanAt;  // next time the path ahead is checked for unloaded chunks
+    boolean[] holdingForward;
+    long[] forwardStartTime;
+    long[] lastValidForwardTime;
+    boolean[] mustReleaseBeforeNextBoost;
+
+    // ======================
+    // 🎮 Key State (trigger-mode: INPUT)
+    // ======================
+    boolean[] forwardKey;
+    boolean[] sprintKey;
+
+    // ======================
+    // 🎚️ Preset Values & Permission Cache
+    // ======================
+    double[] refillPerSecond;
+    double[] drainPerSecond;
+    double[] boostSpeed;
+    Particle[] particle;
+    EasingCurve[] easeIn;
+    EasingCurve[] easeOut;
+    boolean[] usePermitted;
+    long[] permissionsCheckedAt; // 0 = resolve again on the next tick
+
+    // ======================
+    // 📍 Movement Tracking
+    // ======================
+    boolean[] hasLastPosition;
+    double[] lastX;
+    double[] lastY;
+    double[] lastZ;
+
+    // ======================
+    // 🧭 Zone Cell Cache
+    // ======================
+    ZoneIndex[] zoneIndex;     // index the cell was resolved against; a reload forces a new lookup
+    World[] zoneWorld;
+    long[] zoneCellKey;
+    ZoneIndex.Cell[] zoneCell; // null when no zone touches the cell
+
+    // ======================
+    // 🏆 Flight Stats (flown since the last hand-over to the stats store)
+    // ======================
+    int[] statBoosts;
+    long[] statBoostMs;
+    double[] statDistance; // blocks
+    double[] statTopSpeed; // blocks/second
+    int[] statLost;        // boosts lost to misalignment
+    long[] statsShippedAt;
+
+    // ======================
+    // 📺 HUD & Debug Snapshots
+    // ======================
+    Component[] lastHudFrame;
+    long[] lastHudSentAt;
+    String[] lastBarSnapshot;
+    String[] lastDotSpeedSnapshot;
+    String[] lastVerboseSnapshot;
+    double[] lastDot;            // last forward alignment computed in MOVEMENT mode, NaN if none this step
+    boolean[] recordingStarted;  // false until the flight recorder wrote this registration's first sample
+    long[] throttledAt; // [slot * LogThrottle.COUNT + channel]
+
+    /**
+     * At most {@code capacity} pilots (clamped to 16–16384) hold a slot at once; the arrays never grow.
+     */
+    public PilotRegistry(int capacity) {
+        allocate(Math.max(MIN_CAPACITY, Math.min(MAX_CAPACITY, capacity)));
+    }
+
+    // ======================
+    // 🎮 Slot Lifecycle
+    // ======================
+
+    /**
+     * Gives the pilot a slot, or points the slot it already holds at the new ghast, or returns {@link #NO_SLOT}
+     * if every slot is taken. A pilot that already held a slot still needs {@link #resetFlight} on the
+     * thread that ticks it.
+     */
+    public synchronized int register(Player player, HappyGhast ghast) {
+        UUID pilotId = player.getUniqueId();
+        UUID ghastId = ghast.getUniqueId();
+
+        Integer existing = slotByPilot.get(pilotId);
+        if (existing != null) {
+            int slot = existing;
+            if (!ghastId.equals(ghastIds[slot])) {
+                slotByGhast.remove(ghastIds[slot], slot);
+            }
+            ghastIds[slot] = ghastId;
+            players[slot] = player;
+            ghasts[slot] = ghast;
+            slotByGhast.put(ghastId, slot);
+            return slot;
+        }
+
+        int slot = claimSlot();
+        if (slot == NO_SLOT) return NO_SLOT;
+
+        reset(slot);
+        pilotIds[slot] = pilotId;
+        ghastIds[slot] = ghastId;
+        players[slot] = player;
+        ghasts[slot] = ghast;
+        active[slot] = true;
+
+        slotByPilot.put(pilotId, slot);
+        slotByGhast.put(ghastId, slot);
+        size++;
+        return slot;
+    }
+
+    /**
+     * Claims a slot with no player or ghast attached, for {@link FlightReplay}. Released like any other.
+     */
+    synchronized int registerDetached(UUID pilotId) {
+        int slot = claimSlot();
+        if (slot == NO_SLOT) return NO_SLOT;
+
+        reset(slot);
+        pilotIds[slot] = pilotId;
+        active[slot] = true;
+        slotByPilot.put(pilotId, slot);
+        size++;
+        return slot;
+    }
+
+    public synchronized void release(int slot) {
+        if (slot < 0 || slot >= highWater || !active[slot]) return;
+
+        slotByPilot.remove(pilotIds[slot]);
+        slotByGhast.remove(ghastIds[slot], slot);
+        reset(slot);
+
+        freeSlots[freeCount++] = slot;
+        size--;
+    }
+
+    // ======================
+    // 🔍 Lookup
+    // ======================
+    public int slotOf(UUID pilotId) {
+        Integer slot = slotByPilot.get(pilotId);
+        return slot != null ? slot : NO_SLOT;
+    }
+
+    public int slotOfGhast(UUID ghastId) {
+        Integer slot = slotByGhast.get(ghastId);
+        return slot != null ? slot : NO_SLOT;
+    }
+
+    public UUID pilotOf(UUID ghastId) {
+        int slot = slotOfGhast(ghastId);
+        return slot != NO_SLOT ? pilotIds[slot] : null;
+    }
+
+    public boolean isActive(int slot) {
+        return slot >= 0 && slot < highWater && active[slot];
+    }
+
+    /**
+     * Exclusive upper bound of slots that have ever been handed out; iterate {@code [0, highWater)}.
+     */
+    public int highWater() {
+        return highWater;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return active.length;
+    }
+
+    public UUID pilotId(int slot) {
+        return pilotIds[slot];
+    }
+
+    public UUID ghastId(int slot) {
+        return ghastIds[slot];
+    }
+
+    public Player player(int slot) {
+        return players[slot];
+    }
+
+    public HappyGhast ghast(int slot) {
+        return ghasts[slot];
+    }
+
+    public double charge(int slot) {
+        return charge[slot];
+    }
+
+    public boolean isBoosting(int slot) {
+        return boosting[slot];
+    }
+
+    /**
+     * Pilots boosting right now. Scans every slot, so it's for stats, not the tick path.
+     */
+    public int boostingCount() {
+        int count = 0;
+        for (int slot = 0, end = highWater; slot < end; slot++) {
+            if (active[slot] && boosting[slot]) count++;
+        }
+        return count;
+    }
+
+    public boolean isUsePermitted(int slot) {
+        return usePermitted[slot];
+    }
+
+    /**
+     * Makes the slot due on the next tick, whatever cadence it was parked at.
+     */
+    public void wake(int slot) {
+        if (isActive(slot)) nextUpdateAt[slot] = 0L;
+    }
+
+    /**
+     * Clears what a pilot was doing when they mount again while still holding their slot. Called on the
+     * thread that ticks the slot, like any other per-slot write.
+     */
+    void resetFlight(int slot) {
+        boosting[slot] = false;
+        coastStartTime[slot] = 0L;
+        holdingForward[slot] = false;
+        forwardStartTime[slot] = 0L;
+        mustReleaseBeforeNextBoost[slot] = false;
+        hasLastPosition[slot] = false;
+        lastHudFrame[slot] = null;
+        recordingStarted[slot] = false;
+        skipNextTick[slot] = true;
+        nextUpdateAt[slot] = 0L;
+    }
+
+    /**
+     * Hands what the pilot flew since the last call to {@code store} and starts counting again. Called by the
+     * thread that owns the pilot, or while it unregisters.
+     */
+    public void shipFlightStats(int slot, FlightStatsStore store, long now) {
+        if (statBoosts[slot] == 0 && statBoostMs[slot] == 0L && statLost[slot] == 0) return;
+
+        Player player = players[slot];
+        String name = player != null ? player.getName() : String.valueOf(pilotIds[slot]);
+        store.record(pilotIds[slot], name, statBoosts[slot], statBoostMs[slot], statDistance[slot],
+                statTopSpeed[slot], statLost[slot]);
+        clearFlightStats(slot);
+        statsShippedAt[slot] = now;
+    }
+
+    /**
+     * True if this channel already let a log through for the slot within its interval; otherwise
+     * records {@code now} and returns false.
+     */
+    boolean isThrottled(int slot, LogThrottle throttle, long now) {
+        int index = slot * LogThrottle.COUNT + throttle.ordinal();
+        if (now - throttledAt[index] < throttle.intervalMs) return true;
+
+        throttledAt[index] = now;
+        return false;
+    }
+
+    // ======================
+    // 🧱 Storage
+    // ======================
+    private int claimSlot() {
+        if (freeCount > 0) return freeSlots[--freeCount];
+        if (highWater == active.length) return NO_SLOT;
+        return highWater++;
+    }
+
+    private void clearFlightStats(int slot) {
+        statBoosts[slot] = 0;
+        statBoostMs[slot] = 0L;
+        statDistance[slot] = 0.0;
+        statTopSpeed[slot] = 0.0;
+        statLost[slot] = 0;
+    }
+
+    private void reset(int slot) {
+        active[slot] = false;
+        pilotIds[slot] = null;
+        ghastIds[slot] = null;
+        players[slot] = null;
+        ghasts[slot] = null;
+        skipNextTick[slot] = true;
+
+        lastUpdateAt[slot] = 0L;
+        nextUpdateAt[slot] = 0L;
+
+        charge[slot] = 1.0;
+        persistedCharge[slot] = Double.NaN;
+        boosting[slot] = false;
+        boostStartTime[slot] = 0L;
+        coastStartTime[slot] = 0L;
+        coastSpeed[slot] = 0.0;
+        speedCap[slot] = Double.POSITIVE_INFINITY;
+        preloadScanAt[slot] = 0L;
+        holdingForward[slot] = false;
+        forwardStartTime[slot] = 0L;
+        lastValidForwardTime[slot] = 0L;
+        mustReleaseBeforeNextBoost[slot] = false;
+
+        forwardKey[slot] = false;
+        sprintKey[slot] = false;
+
+        refillPerSecond[slot] = 0.2;
+        drainPerSecond[slot] = 0.0333;
+        boostSpeed[slot] = 1.0;
+        particle[slot] = Particle.FLAME;
+        easeIn[slot] = EasingCurve.LINEAR;
+        easeOut[slot] = EasingCurve.LINEAR;
+        usePermitted[slot] = false;
+        permissionsCheckedAt[slot] = 0L;
+
+        hasLastPosition[slot] = false;
+        lastX[slot] = 0.0;
+        lastY[slot] = 0.0;
+        lastZ[slot] = 0.0;
+
+        zoneIndex[slot] = null;
+        zoneWorld[slot] = null;
+        zoneCellKey[slot] = 0L;
+        zoneCell[slot] = null;
+
+        clearFlightStats(slot);
+        statsShippedAt[slot] = 0L;
+
+        lastHudFrame[slot] = null;
+        lastHudSentAt[slot] = 0L;
+        lastBarSnapshot[slot] = null;
+        lastDotSpeedSnapshot[slot] = null;
+        lastVerboseSnapshot[slot] = null;
+        lastDot[slot] = Double.NaN;
+        recordingStarted[slot] = false;
+        Arrays.fill(throttledAt, slot * LogThrottle.COUNT, (slot + 1) * LogThrottle.COUNT, 0L);
+    }
+
+    private void allocate(int capacity) {
+        freeSlots = new int[capacity];
+
+        active = new boolean[capacity];
+        pilotIds = new UUID[capacity];
+        ghastIds = new UUID[capacity];
+        players = new Player[capacity];
+        ghasts = new HappyGhast[capacity];
+        skipNextTick = new boolean[capacity];
+
+        lastUpdateAt = new long[capacity];
+        nextUpdateAt = new long[capacity];
+
+        charge = new double[capacity];
+        persistedCharge = new double[capacity];
+        boosting = new boolean[capacity];
+        boostStartTime = new long[capacity];
+        coastStartTime = new long[capacity];
+        coastSpeed = new double[capacity];
+        speedCap = new double[capacity];
+        preloadScanAt = new long[capacity];
+        holdingForward = new boolean[capacity];
+        forwardStartTime = new long[capacity];
+        lastValidForwardTime = new long[capacity];
+        mustReleaseBeforeNextBoost = new boolean[capacity];
+
+        forwardKey = new boolean[capacity];
+        sprintKey = new boolean[capacity];
+
+        refillPerSecond = new double[capacity];
+        drainPerSecond = new double[capacity];
+        boostSpeed = new double[capacity];
+        particle = new Particle[capacity];
+        easeIn = new EasingCurve[capacity];
+        easeOut = new EasingCurve[capacity];
+        usePermitted = new boolean[capacity];
+        permissionsCheckedAt = new long[capacity];
+
+        hasLastPosition = new boolean[capacity];
+        lastX = new double[capacity];
+        lastY = new double[capacity];
+        lastZ = new double[capacity];
+
+        zoneIndex = new ZoneIndex[capacity];
+        zoneWorld = new World[capacity];
+        zoneCellKey = new long[capacity];
+        zoneCell = new ZoneIndex.Cell[capacity];
+
+        statBoosts = new int[capacity];
+        statBoostMs = new long[capacity];
+        statDistance = new double[capacity];
+        statTopSpeed = new double[capacity];
+        statLost = new int[capacity];
+        statsShippedAt = new long[capacity];
+
+        lastHudFrame = new Component[capacity];
+        lastHudSentAt = new long[capacity];
+        lastBarSnapshot = new String[capacity];
+        lastDotSpeedSnapshot = new String[capacity];
+        lastVerboseSnapshot = new String[capacity];
+        lastDot = new double[capacity];
+        recordingStarted = new boolean[capacity];
+        throttledAt = new long[capacity * LogThrottle.COUNT];
+    }
+}
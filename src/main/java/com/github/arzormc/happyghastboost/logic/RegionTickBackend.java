@@ -0,0 +1,103 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import com.github.arzormc.happyghastboost.HappyGhastBoost;
+import com.github.arzormc.happyghastboost.config.BoostSettings;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.HappyGhast;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One entity-scheduler task per piloted ghast, so pilot work runs on the region thread that owns the ghast.
+ * Required on Folia, and also usable on Paper.
+ */
+final class RegionTickBackend implements TickBackend {
+
+    private final HappyGhastBoost plugin;
+    private final BoostTickTasks tickTasks;
+
+    private final Map<UUID, ScheduledTask> ghastTasks = new ConcurrentHashMap<>();
+    private ScheduledTask budgetTask;
+
+    RegionTickBackend(HappyGhastBoost plugin, BoostTickTasks tickTasks) {
+        this.plugin = plugin;
+        this.tickTasks = tickTasks;
+    }
+
+    @Override
+    public void start() {
+        // Region threads share one PDC write budget and one trail particle budget, topped up once per global tick.
+        BoostManager manager = tickTasks.getManager();
+        budgetTask = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, task -> {
+            BoostSettings settings = manager.getSettings();
+            manager.getChargeStorage().refillWriteBudget(settings.persistWritesPerTick());
+            manager.getTrailRenderer().refillShared(settings.trailLod().maxParticlesPerTick());
+        }, 1L, 1L);
+
+        // Pick up pilots that were already flying when the backend was (re)started.
+        PilotRegistry pilots = tickTasks.getManager().getPilots();
+        for (int slot = 0, end = pilots.highWater(); slot < end; slot++) {
+            if (!pilots.isActive(slot)) continue;
+
+            Entity entity = Bukkit.getEntity(pilots.ghastId(slot));
+            if (entity instanceof HappyGhast ghast && ghast.isValid()) {
+                track(ghast, slot);
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (budgetTask != null) {
+            budgetTask.cancel();
+            budgetTask = null;
+        }
+        for (ScheduledTask task : ghastTasks.values()) {
+            task.cancel();
+        }
+        ghastTasks.clear();
+    }
+
+    @Override
+    public void track(HappyGhast ghast, int slot) {
+        UUID ghastId = ghast.getUniqueId();
+        untrack(ghastId);
+
+        ScheduledTask task = ghast.getScheduler().runAtFixedRate(
+                plugin,
+                scheduled -> tickGhast(ghastId, slot, scheduled),
+                () -> ghastTasks.remove(ghastId),
+                1L,
+                1L
+        );
+
+        if (task != null) {
+            ghastTasks.put(ghastId, task);
+        }
+    }
+
+    @Override
+    public void untrack(UUID ghastId) {
+        ScheduledTask task = ghastTasks.remove(ghastId);
+        if (task != null) {
+            task.cancel();
+        }
+    }
+
+    private void tickGhast(UUID ghastId, int slot, ScheduledTask scheduled) {
+        PilotRegistry pilots = tickTasks.getManager().getPilots();
+
+        // The slot may have been released and handed to another pilot since this task was scheduled.
+        if (!pilots.isActive(slot) || !ghastId.equals(pilots.ghastId(slot))) {
+            scheduled.cancel();
+            ghastTasks.remove(ghastId, scheduled);
+            return;
+        }
+
+        tickTasks.tickSlot(slot, tickTasks.getManager().getSettings(), System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,196 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import com.github.arzormc.happyghastboost.HappyGhastBoost;
+import com.github.arzormc.happyghastboost.config.BoostSettings;
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Looks ahead of boosting ghasts for terrain and reports ghasts about to fly into it.
+ * <p>
+ * The thread that owns a ghast hands over its position, heading and the chunks along the path as
+ * {@link ChunkSnapshot}s, which are cached per chunk and shared by every pilot until they get too old.
+ * One async task ray-marches all queued probes, and hits are picked up by the snapshot phase on the
+ * pilot's next tick. Each ghast has at most one probe in flight.
+ */
+final class TerrainLookahead {
+
+    // Happy ghast hitbox is 4×4×4 with its origin at the bottom centre; probe the centre and the leading corners.
+    private static final double HALF_WIDTH = 1.8;
+    private static final double[][] PROBE_OFFSETS = {
+            {0.0, 2.0, 0.0},
+            {-HALF_WIDTH, 0.3, -HALF_WIDTH}, {HALF_WIDTH, 0.3, -HALF_WIDTH},
+            {-HALF_WIDTH, 0.3, HALF_WIDTH}, {HALF_WIDTH, 0.3, HALF_WIDTH},
+            {-HALF_WIDTH, 3.7, -HALF_WIDTH}, {HALF_WIDTH, 3.7, -HALF_WIDTH},
+            {-HALF_WIDTH, 3.7, HALF_WIDTH}, {HALF_WIDTH, 3.7, HALF_WIDTH},
+    };
+    private static final double STEP = 0.5;
+    private static final long PRUNE_INTERVAL_MS = 5000L;
+
+    private record CachedChunk(ChunkSnapshot snapshot, long capturedAt) {
+    }
+
+    private record Probe(UUID ghastId, ChunkSnapshot[] chunks, int minChunkX, int minChunkZ, int chunksWide,
+                         int minY, int maxY, double x, double y, double z, double dx, double dy, double dz,
+                         double distance) {
+    }
+
+    private final HappyGhastBoost plugin;
+
+    private final Map<UUID, Map<Long, CachedChunk>> snapshots = new ConcurrentHashMap<>();
+    private final Queue<Probe> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> blocked = ConcurrentHashMap.newKeySet();
+    private volatile long prunedAt;
+    private volatile long maxAgeMs;
+
+    TerrainLookahead(HappyGhastBoost plugin) {
+        this.plugin = plugin;
+    }
+
+    // ======================
+    // 📨 Owning Thread
+    // ======================
+
+    /**
+     * True once if a probe found terrain ahead of this ghast since the last call.
+     */
+    boolean takeHit(UUID ghastId) {
+        return !blocked.isEmpty() && blocked.remove(ghastId);
+    }
+
+    /**
+     * Queues a probe from the ghast's position along its boost velocity, unless one is still running.
+     * Runs on the thread that owns the ghast; chunks it can't snapshot there are treated as open air.
+     */
+    void submit(UUID ghastId, World world, double x, double y, double z, double vx, double vy, double vz,
+                BoostSettings.Lookahead config, long now) {
+        double speed = Math.sqrt(vx * vx + vy * vy + vz * vz);
+        if (speed < 1.0E-4 || !inFlight.add(ghastId)) return;
+
+        double dx = vx / speed;
+        double dy = vy / speed;
+        double dz = vz / speed;
+        double distance = config.distance();
+        double reach = distance + HALF_WIDTH;
+        maxAgeMs = config.snapshotMaxAgeMs();
+
+        int minChunkX = (int) Math.floor(Math.min(x, x + dx * distance) - HALF_WIDTH) >> 4;
+        int maxChunkX = (int) Math.floor(Math.max(x, x + dx * distance) + HALF_WIDTH) >> 4;
+        int minChunkZ = (int) Math.floor(Math.min(z, z + dz * distance) - HALF_WIDTH) >> 4;
+        int maxChunkZ = (int) Math.floor(Math.max(z, z + dz * distance) + HALF_WIDTH) >> 4;
+        int chunksWide = maxChunkX - minChunkX + 1;
+        int chunksLong = maxChunkZ - minChunkZ + 1;
+
+        // The bounding box of a diagonal path covers chunks the ray never touches; only snapshot the ones it crosses.
+        ChunkSnapshot[] chunks = new ChunkSnapshot[chunksWide * chunksLong];
+        Map<Long, CachedChunk> cache = snapshots.computeIfAbsent(world.getUID(), id -> new ConcurrentHashMap<>());
+        for (double travelled = 0.0; travelled <= reach; travelled += 4.0) {
+            double px = x + dx * Math.min(travelled, distance);
+            double pz = z + dz * Math.min(travelled, distance);
+            for (int cx = (int) Math.floor(px - HALF_WIDTH) >> 4; cx <= (int) Math.floor(px + HALF_WIDTH) >> 4; cx++) {
+                for (int cz = (int) Math.floor(pz - HALF_WIDTH) >> 4; cz <= (int) Math.floor(pz + HALF_WIDTH) >> 4; cz++) {
+                    int index = (cz - minChunkZ) * chunksWide + (cx - minChunkX);
+                    if (chunks[index] == null) {
+                        chunks[index] = snapshot(world, cache, cx, cz, config.snapshotMaxAgeMs(), now);
+                    }
+                }
+            }
+        }
+
+        queue.add(new Probe(ghastId, chunks, minChunkX, minChunkZ, chunksWide, world.getMinHeight(),
+                world.getMaxHeight(), x, y, z, dx, dy, dz, distance));
+        if (draining.compareAndSet(false, true)) {
+            Bukkit.getAsyncScheduler().runNow(plugin, task -> drain());
+        }
+    }
+
+    private ChunkSnapshot snapshot(World world, Map<Long, CachedChunk> cache, int cx, int cz, long maxAgeMs, long now) {
+        long key = ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+        CachedChunk cached = cache.get(key);
+        if (cached != null && now - cached.capturedAt() < maxAgeMs) return cached.snapshot();
+
+        if (!world.isChunkLoaded(cx, cz) || !Bukkit.isOwnedByCurrentRegion(world, cx, cz)) return null;
+
+        ChunkSnapshot snapshot = world.getChunkAt(cx, cz).getChunkSnapshot(false, false, false);
+        cache.put(key, new CachedChunk(snapshot, now));
+        return snapshot;
+    }
+
+    void forget(UUID ghastId) {
+        blocked.remove(ghastId);
+    }
+
+    void clear() {
+        queue.clear();
+        snapshots.clear();
+        inFlight.clear();
+        blocked.clear();
+    }
+
+    // ======================
+    // 🧵 Async Ray-March
+    // ======================
+    private void drain() {
+        do {
+            Probe probe;
+            while ((probe = queue.poll()) != null) {
+                if (march(probe)) {
+                    blocked.add(probe.ghastId());
+                }
+                inFlight.remove(probe.ghastId());
+            }
+            draining.set(false);
+            // A probe queued after the last poll but before the flag cleared would otherwise wait for the next submit.
+        } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+
+        long now = System.currentTimeMillis();
+        if (now - prunedAt >= PRUNE_INTERVAL_MS) {
+            prunedAt = now;
+            long maxAge = maxAgeMs;
+            for (Map<Long, CachedChunk> cache : snapshots.values()) {
+                cache.values().removeIf(cached -> now - cached.capturedAt() >= maxAge);
+            }
+        }
+    }
+
+    private static boolean march(Probe probe) {
+        for (double travelled = STEP; travelled <= probe.distance(); travelled += STEP) {
+            double cx = probe.x() + probe.dx() * travelled;
+            double cy = probe.y() + probe.dy() * travelled;
+            double cz = probe.z() + probe.dz() * travelled;
+
+            for (double[] offset : PROBE_OFFSETS) {
+                if (isSolid(probe, cx + offset[0], cy + offset[1], cz + offset[2])) return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSolid(Probe probe, double x, double y, double z) {
+        int blockY = (int) Math.floor(y);
+        if (blockY < probe.minY() || blockY >= probe.maxY()) return false;
+
+        int blockX = (int) Math.floor(x);
+        int blockZ = (int) Math.floor(z);
+        int chunkX = (blockX >> 4) - probe.minChunkX();
+        int chunkZ = (blockZ >> 4) - probe.minChunkZ();
+        if (chunkX < 0 || chunkX >= probe.chunksWide() || chunkZ < 0) return false;
+
+        int index = chunkZ * probe.chunksWide() + chunkX;
+        if (index >= probe.chunks().length) return false;
+
+        ChunkSnapshot snapshot = probe.chunks()[index];
+        return snapshot != null && snapshot.getBlockType(blockX & 15, blockY, blockZ & 15).isSolid();
+    }
+}
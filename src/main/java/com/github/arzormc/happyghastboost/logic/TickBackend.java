@@ -0,0 +1,21 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import org.bukkit.entity.HappyGhast;
+
+import java.util.UUID;
+
+/**
+ * Decides which thread ticks each pilot. The classic backend runs {@link BoostTickTasks#tickAll} once per
+ * tick on the main thread; the region backend runs {@link BoostTickTasks#tickSlot} every tick for each ghast
+ * on its region thread. Both skip pilots that aren't due at their cadence.
+ */
+interface TickBackend {
+
+    void start();
+
+    void stop();
+
+    void track(HappyGhast ghast, int slot);
+
+    void untrack(UUID ghastId);
+}
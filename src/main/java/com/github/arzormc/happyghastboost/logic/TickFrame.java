@@ -0,0 +1,145 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import com.github.arzormc.happyghastboost.config.ZoneIndex;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.HappyGhast;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+
+/**
+ * One tick's worth of due pilots, laid out as parallel arrays indexed by frame position.
+ * <p>
+ * The snapshot phase fills the inputs on the thread that owns the entities, {@link BoostStateMachine}
+ * fills the outputs without touching Bukkit, and the apply phase turns the outputs into Bukkit calls.
+ * Frames are reused tick after tick and only grow.
+ */
+final class TickFrame {
+
+    int size;
+
+    // ======================
+    // 📸 Snapshot Inputs
+    // ======================
+    int[] slots;
+    Player[] players;
+    HappyGhast[] ghasts;
+    String[] names;
+
+    boolean[] hasPosition;
+    double[] x;
+    double[] y;
+    double[] z;
+    float[] ghastYaw;
+    float[] lookYaw;
+    float[] lookPitch;
+    boolean[] hasMotion; // current ghast velocity, read only when velocity-epsilon can use it
+    double[] motionX;
+    double[] motionY;
+    double[] motionZ;
+    boolean[] obstacleAhead;
+    ZoneIndex.Effect[] zone; // never null; Effect.NONE outside every zone
+
+    // ======================
+    // 📤 Outputs
+    // ======================
+    boolean[] push;
+    double[] vx;
+    double[] vy;
+    double[] vz;
+    boolean[] trail;
+    Component[] hud;
+
+    TickFrame(int capacity) {
+        allocate(Math.max(1, capacity));
+    }
+
+    /**
+     * Appends a pilot with cleared outputs and no position; returns its frame index.
+     */
+    int add(int slot, Player player, HappyGhast ghast, String name) {
+        if (size == slots.length) {
+            grow();
+        }
+
+        int i = size++;
+        slots[i] = slot;
+        players[i] = player;
+        ghasts[i] = ghast;
+        names[i] = name;
+
+        hasPosition[i] = false;
+        hasMotion[i] = false;
+        obstacleAhead[i] = false;
+        zone[i] = ZoneIndex.Effect.NONE;
+        push[i] = false;
+        trail[i] = false;
+        hud[i] = null;
+        return i;
+    }
+
+    void clear() {
+        Arrays.fill(players, 0, size, null);
+        Arrays.fill(ghasts, 0, size, null);
+        Arrays.fill(hud, 0, size, null);
+        size = 0;
+    }
+
+    private void allocate(int capacity) {
+        slots = new int[capacity];
+        players = new Player[capacity];
+        ghasts = new HappyGhast[capacity];
+        names = new String[capacity];
+
+        hasPosition = new boolean[capacity];
+        x = new double[capacity];
+        y = new double[capacity];
+        z = new double[capacity];
+        ghastYaw = new float[capacity];
+        lookYaw = new float[capacity];
+        lookPitch = new float[capacity];
+        hasMotion = new boolean[capacity];
+        motionX = new double[capacity];
+        motionY = new double[capacity];
+        motionZ = new double[capacity];
+        obstacleAhead = new boolean[capacity];
+        zone = new ZoneIndex.Effect[capacity];
+
+        push = new boolean[capacity];
+        vx = new double[capacity];
+        vy = new double[capacity];
+        vz = new double[capacity];
+        trail = new boolean[capacity];
+        hud = new Component[capacity];
+    }
+
+    private void grow() {
+        int capacity = slots.length * 2;
+
+        slots = Arrays.copyOf(slots, capacity);
+        players = Arrays.copyOf(players, capacity);
+        ghasts = Arrays.copyOf(ghasts, capacity);
+        names = Arrays.copyOf(names, capacity);
+
+        hasPosition = Arrays.copyOf(hasPosition, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        ghastYaw = Arrays.copyOf(ghastYaw, capacity);
+        lookYaw = Arrays.copyOf(lookYaw, capacity);
+        lookPitch = Arrays.copyOf(lookPitch, capacity);
+        hasMotion = Arrays.copyOf(hasMotion, capacity);
+        motionX = Arrays.copyOf(motionX, capacity);
+        motionY = Arrays.copyOf(motionY, capacity);
+        motionZ = Arrays.copyOf(motionZ, capacity);
+        obstacleAhead = Arrays.copyOf(obstacleAhead, capacity);
+        zone = Arrays.copyOf(zone, capacity);
+
+        push = Arrays.copyOf(push, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        vz = Arrays.copyOf(vz, capacity);
+        trail = Arrays.copyOf(trail, capacity);
+        hud = Arrays.copyOf(hud, capacity);
+    }
+}
@@ -0,0 +1,214 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import com.github.arzormc.happyghastboost.HappyGhastBoost;
+import com.github.arzormc.happyghastboost.util.MessageUtil;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Phase-by-phase timing of the boost loop for /hgb profile.
+ * <p>
+ * While no profile runs, the tick path reads one volatile flag per run and passes a null phase array down,
+ * so nothing is timed. While one runs, each run accumulates System.nanoTime() laps into its thread's
+ * {@link TickScratch#phaseNanos} and hands them over once at the end.
+ */
+public final class TickProfiler {
+
+    // ======================
+    // ⏱️ Phases
+    // ======================
+    static final int LOOKUP = 0;      // player online + vehicle checks
+    static final int PERMISSION = 1;  // cached preset and use permission, resolved again once per refresh interval
+    static final int POSITION = 2;    // ghast and look position snapshot
+    static final int COMPUTE = 3;     // state machine: alignment, charge, velocity math, HUD frame, debug snapshots
+    static final int VELOCITY = 4;    // setVelocity
+    static final int TRAIL = 5;       // trail receivers and particle packets
+    static final int ACTIONBAR = 6;   // sendActionBar
+    static final int PERSIST = 7;     // write-behind charge save
+    static final int LOOKAHEAD = 8;   // terrain probe hand-off and chunk preload scan
+    static final int COUNT = 9;
+
+    private static final String[] NAMES = {
+            "lookup", "permission", "position", "compute", "velocity", "trail", "actionbar", "persist", "lookahead"
+    };
+
+    private final HappyGhastBoost plugin;
+
+    private volatile boolean active;
+    private ScheduledTask finishTask;
+    private CommandSender requester;
+    private int seconds;
+
+    private final LongAdder[] phaseTotals = new LongAdder[COUNT];
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder pilotSamples = new LongAdder();
+    private final LongAdder runNanos = new LongAdder();
+
+    // Worst single run, replaced under the lock only when a slower one finishes.
+    private final long[] worstPhases = new long[COUNT];
+    private long worstNanos;
+    private int worstPilots;
+
+    public TickProfiler(HappyGhastBoost plugin) {
+        this.plugin = plugin;
+        for (int i = 0; i < COUNT; i++) {
+            phaseTotals[i] = new LongAdder();
+        }
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    // ======================
+    // 🎬 Session
+    // ======================
+
+    /**
+     * Starts a profile that reports to {@code sender} after {@code seconds}.
+     *
+     * @return false if one is already running
+     */
+    public synchronized boolean start(CommandSender sender, int seconds) {
+        if (active) return false;
+
+        for (LongAdder total : phaseTotals) {
+            total.reset();
+        }
+        runs.reset();
+        pilotSamples.reset();
+        runNanos.reset();
+        synchronized (worstPhases) {
+            Arrays.fill(worstPhases, 0L);
+            worstNanos = 0L;
+            worstPilots = 0;
+        }
+
+        this.requester = sender;
+        this.seconds = seconds;
+        this.active = true;
+        this.finishTask = Bukkit.getGlobalRegionScheduler().runDelayed(plugin, task -> finish(), seconds * 20L);
+        return true;
+    }
+
+    /**
+     * Ends a running profile early without a report. Called when the plugin disables.
+     */
+    public synchronized void cancel() {
+        active = false;
+        requester = null;
+        if (finishTask != null) {
+            finishTask.cancel();
+            finishTask = null;
+        }
+    }
+
+    private synchronized void finish() {
+        if (!active) return;
+        active = false;
+        finishTask = null;
+
+        CommandSender sender = requester;
+        requester = null;
+        if (sender != null) {
+            report(sender);
+        }
+    }
+
+    // ======================
+    // 📥 Recording
+    // ======================
+
+    /**
+     * Adds one run's laps and clears {@code phases} for the next run.
+     */
+    void record(long[] phases, int pilots, long totalNanos) {
+        for (int i = 0; i < COUNT; i++) {
+            if (phases[i] != 0L) phaseTotals[i].add(phases[i]);
+        }
+        runs.increment();
+        pilotSamples.add(pilots);
+        runNanos.add(totalNanos);
+
+        synchronized (worstPhases) {
+            if (totalNanos > worstNanos) {
+                worstNanos = totalNanos;
+                worstPilots = pilots;
+                System.arraycopy(phases, 0, worstPhases, 0, COUNT);
+            }
+        }
+        Arrays.fill(phases, 0L);
+    }
+
+    /**
+     * Adds the time since {@code since} to {@code phase} and returns the new mark. No-op without a phase array.
+     */
+    static long lap(long[] phases, int phase, long since) {
+        if (phases == null) return 0L;
+        long now = System.nanoTime();
+        phases[phase] += now - since;
+        return now;
+    }
+
+    static long mark(long[] phases) {
+        return phases != null ? System.nanoTime() : 0L;
+    }
+
+    // ======================
+    // 📋 Report
+    // ======================
+    private void report(CommandSender sender) {
+        long runCount = runs.sum();
+        long pilots = pilotSamples.sum();
+
+        long phaseSum = 0L;
+        long[] totals = new long[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            totals[i] = phaseTotals[i].sum();
+            phaseSum += totals[i];
+        }
+
+        MessageUtil.send(sender, "profile-header",
+                Placeholder.unparsed("seconds", Integer.toString(seconds)),
+                Placeholder.unparsed("runs", Long.toString(runCount)),
+                Placeholder.unparsed("pilots", Long.toString(pilots)),
+                Placeholder.unparsed("total", millis(runNanos.sum())));
+
+        if (runCount == 0L || pilots == 0L) {
+            MessageUtil.send(sender, "profile-empty");
+            return;
+        }
+
+        for (int i = 0; i < COUNT; i++) {
+            MessageUtil.send(sender, "profile-phase",
+                    Placeholder.unparsed("phase", NAMES[i]),
+                    Placeholder.unparsed("total", millis(totals[i])),
+                    Placeholder.unparsed("share", String.format(Locale.ROOT, "%.1f", phaseSum > 0 ? totals[i] * 100.0 / phaseSum : 0.0)),
+                    Placeholder.unparsed("per_pilot", String.format(Locale.ROOT, "%.2f", totals[i] / 1000.0 / pilots)));
+        }
+
+        StringBuilder breakdown = new StringBuilder();
+        synchronized (worstPhases) {
+            for (int i = 0; i < COUNT; i++) {
+                if (worstPhases[i] == 0L) continue;
+                if (!breakdown.isEmpty()) breakdown.append(", ");
+                breakdown.append(NAMES[i]).append(' ').append(millis(worstPhases[i])).append("ms");
+            }
+
+            MessageUtil.send(sender, "profile-worst",
+                    Placeholder.unparsed("total", millis(worstNanos)),
+                    Placeholder.unparsed("pilots", Integer.toString(worstPilots)),
+                    Placeholder.unparsed("breakdown", breakdown.toString()));
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-thread reusable Location, Vector, single-pilot {@link TickFrame} and trail receiver lists for the tick
+ * path, so reading positions, pushing velocity and drawing trails don't allocate.
+ * Each tick thread (main or region) gets its own instance.
+ */
+final class TickScratch {
+
+    private static final ThreadLocal<TickScratch> CURRENT = ThreadLocal.withInitial(TickScratch::new);
+
+    final Location location = new Location(null, 0, 0, 0);
+    final Vector velocity = new Vector();
+    final TickFrame frame = new TickFrame(1);
+
+    final ViewerGrid viewers = new ViewerGrid();
+    final List<Player> nearViewers = new ArrayList<>();
+    final List<Player> farViewers = new ArrayList<>();
+
+    final long[] phaseNanos = new long[TickProfiler.COUNT];
+
+    private TickScratch() {
+    }
+
+    static TickScratch get() {
+        return CURRENT.get();
+    }
+}
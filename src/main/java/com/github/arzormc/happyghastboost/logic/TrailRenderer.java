@@ -0,0 +1,231 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import com.github.arzormc.happyghastboost.HappyGhastBoost;
+import com.github.arzormc.happyghastboost.config.BoostSettings;
+import com.github.arzormc.happyghastboost.util.BoostMetrics;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.HappyGhast;
+import org.bukkit.entity.Player;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Draws boost trails to explicit receiver lists instead of broadcasting them.
+ * <p>
+ * Viewers within near-distance get the full trail, viewers up to max-distance get far-count particles, and
+ * anyone further gets nothing. Players who hid other riders' trails only receive their own. Every tick has
+ * a particle budget split evenly across the trails drawn that tick; the odd leftover particles rotate between
+ * boosters so nobody is starved tick after tick.
+ */
+public final class TrailRenderer {
+
+    // Beyond this the client drops particles unless the packet is forced.
+    private static final double VANILLA_RANGE = 32.0;
+
+    private final NamespacedKey hideTrailsKey;
+    private final BoostMetrics metrics;
+    private final Set<UUID> hidingOthers = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger remaining = new AtomicInteger();
+    private final AtomicInteger issued = new AtomicInteger(); // trails that asked for budget since the last refill
+    private volatile int budget = Integer.MAX_VALUE;
+    private volatile int expected = 1;
+    private volatile int rotation;
+
+    // Classic backend only: one viewer snapshot per world per tick, main thread.
+    private final Map<UUID, ViewerGrid> worldViewers = new HashMap<>();
+    private long tick;
+
+    public TrailRenderer(HappyGhastBoost plugin, BoostMetrics metrics) {
+        this.hideTrailsKey = new NamespacedKey(plugin, "hide_trails");
+        this.metrics = metrics;
+    }
+
+    // ======================
+    // 👻 Per-Player Visibility
+    // ======================
+
+    /**
+     * Reads the player's saved trail preference. Called on join and for players already online at startup.
+     */
+    public void load(Player player) {
+        if (player.getPersistentDataContainer().has(hideTrailsKey)) {
+            hidingOthers.add(player.getUniqueId());
+        } else {
+            hidingOthers.remove(player.getUniqueId());
+        }
+    }
+
+    public void forget(UUID playerId) {
+        hidingOthers.remove(playerId);
+    }
+
+    public boolean isHidingOthers(UUID playerId) {
+        return hidingOthers.contains(playerId);
+    }
+
+    /**
+     * Flips whether the player sees other riders' trails and saves it on the player.
+     *
+     * @return true if other trails are now hidden
+     */
+    public boolean toggleHideOthers(Player player) {
+        UUID playerId = player.getUniqueId();
+        if (hidingOthers.remove(playerId)) {
+            player.getPersistentDataContainer().remove(hideTrailsKey);
+            return false;
+        }
+
+        hidingOthers.add(playerId);
+        player.getPersistentDataContainer().set(hideTrailsKey, PersistentDataType.BOOLEAN, true);
+        return true;
+    }
+
+    // ======================
+    // 🎟️ Particle Budget
+    // ======================
+
+    /**
+     * Classic backend: opens a new tick with the exact number of trails about to be drawn.
+     */
+    void beginTick(int maxParticles, int trails) {
+        tick++;
+        for (ViewerGrid grid : worldViewers.values()) {
+            if (grid.stamp != tick - 1) grid.clear(); // world had no boosters last tick; drop player references
+        }
+
+        issued.set(0);
+        refill(maxParticles, trails);
+    }
+
+    /**
+     * Region backend: refilled once per global tick. Region threads draw concurrently, so the even split
+     * uses how many trails were drawn during the previous tick.
+     */
+    void refillShared(int maxParticles) {
+        refill(maxParticles, issued.getAndSet(0));
+    }
+
+    private void refill(int maxParticles, int trails) {
+        budget = maxParticles;
+        expected = Math.max(1, trails);
+        rotation++;
+        remaining.set(maxParticles);
+    }
+
+    private int claim(int want) {
+        int trails = expected;
+        int total = budget;
+        int index = issued.getAndIncrement();
+
+        int share = total / trails + (Math.floorMod(index + rotation, trails) < total % trails ? 1 : 0);
+        int quota = Math.min(want, share);
+
+        while (quota > 0) {
+            int left = remaining.get();
+            int take = Math.min(quota, left);
+            if (take <= 0) return 0;
+            if (remaining.compareAndSet(left, left - take)) return take;
+        }
+        return 0;
+    }
+
+    // ======================
+    // ✨ Drawing
+    // ======================
+
+    /**
+     * Classic backend: viewers come from a per-world snapshot taken on the first trail of the tick.
+     *
+     * @return particles drawn per receiver at the closest level of detail, 0 if none
+     */
+    int drawForWorld(Player rider, World world, Particle particle, double x, double y, double z,
+                     BoostSettings.TrailLod lod, TickScratch scratch) {
+        ViewerGrid grid = worldViewers.computeIfAbsent(world.getUID(), id -> new ViewerGrid());
+        if (grid.stamp != tick) {
+            grid.fill(world.getPlayers(), lod.maxDistance(), this, scratch.location);
+            grid.stamp = tick;
+        }
+        return draw(grid, rider, world, particle, x, y, z, lod, scratch);
+    }
+
+    /**
+     * Region backend: viewers are the players already tracking the ghast, which are all owned by its region.
+     */
+    int drawForTrackers(Player rider, HappyGhast ghast, Particle particle, double x, double y, double z,
+                        BoostSettings.TrailLod lod, TickScratch scratch) {
+        Set<Player> trackers = ghast.getTrackedBy();
+        ViewerGrid grid = scratch.viewers;
+        grid.fill(trackers, lod.maxDistance(), this, scratch.location);
+        if (!trackers.contains(rider)) {
+            grid.add(rider, false, scratch.location);
+        }
+
+        int drawn = draw(grid, rider, ghast.getWorld(), particle, x, y, z, lod, scratch);
+        grid.clear();
+        return drawn;
+    }
+
+    private int draw(ViewerGrid grid, Player rider, World world, Particle particle, double x, double y, double z,
+                     BoostSettings.TrailLod lod, TickScratch scratch) {
+        int quota = claim(lod.nearCount());
+        if (quota == 0) return 0;
+
+        List<Player> near = scratch.nearViewers;
+        List<Player> far = scratch.farViewers;
+        double nearSquared = lod.nearDistance() * lod.nearDistance();
+        double maxSquared = lod.maxDistance() * lod.maxDistance();
+
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                for (int v = grid.first(x, z, dx, dz); v >= 0; v = grid.next(v)) {
+                    Player viewer = grid.players[v];
+                    if (grid.hidesOthers[v] && viewer != rider) continue;
+
+                    double ox = grid.x[v] - x;
+                    double oy = grid.y[v] - y;
+                    double oz = grid.z[v] - z;
+                    double distanceSquared = ox * ox + oy * oy + oz * oz;
+
+                    if (distanceSquared <= nearSquared) {
+                        near.add(viewer);
+                    } else if (distanceSquared <= maxSquared) {
+                        far.add(viewer);
+                    }
+                }
+            }
+        }
+
+        int nearCount = Math.min(lod.nearCount(), quota);
+        int farCount = Math.min(lod.farCount(), quota);
+        int used = 0;
+
+        if (!near.isEmpty() && nearCount > 0) {
+            world.spawnParticle(particle, near, rider, x, y, z, nearCount, 0.1, 0.1, 0.1, 0.0, null,
+                    lod.nearDistance() > VANILLA_RANGE);
+            used = nearCount;
+        }
+        if (!far.isEmpty() && farCount > 0) {
+            world.spawnParticle(particle, far, rider, x, y, z, farCount, 0.1, 0.1, 0.1, 0.0, null,
+                    lod.maxDistance() > VANILLA_RANGE);
+            used = Math.max(used, farCount);
+        }
+
+        if (used < quota) {
+            remaining.addAndGet(quota - used);
+        }
+        metrics.add(BoostMetrics.Counter.PARTICLES_SPAWNED, (long) nearCount * near.size() + (long) farCount * far.size());
+        near.clear();
+        far.clear();
+        return used;
+    }
+}
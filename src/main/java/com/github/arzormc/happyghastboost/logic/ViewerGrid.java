@@ -0,0 +1,133 @@
+package com.github.arzormc.happyghastboost.logic;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+
+/**
+ * Snapshot of the players who may see a trail, bucketed into square columns of {@code cellSize} blocks so
+ * a trail only scans the 3×3 cells around it. Filled once per tick and reused; never allocates once warm.
+ */
+final class ViewerGrid {
+
+    private static final int NONE = -1;
+
+    int size;
+    Player[] players = new Player[16];
+    double[] x = new double[16];
+    double[] y = new double[16];
+    double[] z = new double[16];
+    boolean[] hidesOthers = new boolean[16];
+    private int[] next = new int[16];
+
+    // Open-addressed cell key → first viewer in that cell, chained through next[].
+    private long[] cellKeys = new long[32];
+    private int[] cellHeads = new int[32];
+    private double cellSize = 1.0;
+
+    long stamp = -1L;
+
+    ViewerGrid() {
+        Arrays.fill(cellHeads, NONE);
+    }
+
+    void fill(Iterable<? extends Player> source, double cellSize, TrailRenderer renderer, Location scratch) {
+        clear();
+        this.cellSize = Math.max(1.0, cellSize);
+
+        for (Player player : source) {
+            add(player, renderer.isHidingOthers(player.getUniqueId()), scratch);
+        }
+    }
+
+    void add(Player player, boolean hidesOthers, Location scratch) {
+        if (size == players.length) {
+            grow();
+        }
+        if (size * 2 >= cellKeys.length) {
+            rehash(cellKeys.length * 2);
+        }
+
+        player.getLocation(scratch);
+        int i = size++;
+        players[i] = player;
+        x[i] = scratch.getX();
+        y[i] = scratch.getY();
+        z[i] = scratch.getZ();
+        this.hidesOthers[i] = hidesOthers;
+
+        link(i);
+    }
+
+    void clear() {
+        Arrays.fill(players, 0, size, null);
+        Arrays.fill(cellHeads, NONE);
+        size = 0;
+    }
+
+    /**
+     * First viewer in the cell containing block column (x, z) offset by (dx, dz) cells, or -1.
+     * Follow with {@link #next(int)}.
+     */
+    int first(double x, double z, int dx, int dz) {
+        long key = key(cell(x) + dx, cell(z) + dz);
+        int mask = cellKeys.length - 1;
+        for (int index = mix(key) & mask; cellHeads[index] != NONE; index = (index + 1) & mask) {
+            if (cellKeys[index] == key) return cellHeads[index];
+        }
+        return NONE;
+    }
+
+    int next(int viewer) {
+        return next[viewer];
+    }
+
+    // ======================
+    // 🧱 Storage
+    // ======================
+    private void link(int i) {
+        long key = key(cell(x[i]), cell(z[i]));
+        int mask = cellKeys.length - 1;
+        int index = mix(key) & mask;
+        while (cellHeads[index] != NONE && cellKeys[index] != key) {
+            index = (index + 1) & mask;
+        }
+
+        next[i] = cellHeads[index];
+        cellKeys[index] = key;
+        cellHeads[index] = i;
+    }
+
+    private void rehash(int capacity) {
+        cellKeys = new long[capacity];
+        cellHeads = new int[capacity];
+        Arrays.fill(cellHeads, NONE);
+        for (int i = 0; i < size; i++) {
+            link(i);
+        }
+    }
+
+    private void grow() {
+        int capacity = players.length * 2;
+        players = Arrays.copyOf(players, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        hidesOthers = Arrays.copyOf(hidesOthers, capacity);
+        next = Arrays.copyOf(next, capacity);
+    }
+
+    private int cell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long key(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
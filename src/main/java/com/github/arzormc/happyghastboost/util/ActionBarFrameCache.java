@@ -0,0 +1,87 @@
+package com.github.arzormc.happyghastboost.util;
+
+import com.github.arzormc.happyghastboost.config.BoostSettings;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+
+/**
+ * Every action bar the HUD can show, rendered once per (re)load.
+ * Frames are keyed by (label state, filled cells, percent) so the tick loop only does an array lookup.
+ */
+public class ActionBarFrameCache {
+
+    // ======================
+    // 🏷️ Label States
+    // ======================
+    public enum LabelState {
+        CHARGING("charging"),
+        READY("boost-ready"),
+        BOOSTING("boosting");
+
+        private final String messageKey;
+
+        LabelState(String messageKey) {
+            this.messageKey = messageKey;
+        }
+    }
+
+    private static final int PERCENT_STEPS = 101;
+
+    private final int cells;
+    private final Component[] frames;
+
+    public ActionBarFrameCache(BoostSettings settings) {
+        BoostSettings.BarStyle style = settings.barStyle();
+        this.cells = style.length() + 1;
+        this.frames = new Component[LabelState.values().length * cells * PERCENT_STEPS];
+
+        MiniMessage miniMessage = MiniMessage.miniMessage();
+
+        for (LabelState labelState : LabelState.values()) {
+            boolean boosting = labelState == LabelState.BOOSTING;
+            Component label = MessageUtil.get(labelState.messageKey);
+
+            for (int filled = 0; filled < cells; filled++) {
+                String bar = MessageUtil.buildBoostBar(style, (double) filled / style.length(), boosting);
+
+                for (int percent = 0; percent < PERCENT_STEPS; percent++) {
+                    TagResolver resolver = TagResolver.builder()
+                            .resolver(Placeholder.component("label", label))
+                            .resolver(Placeholder.parsed("bar", bar))
+                            .resolver(Placeholder.unparsed("percent", String.valueOf(percent)))
+                            .build();
+
+                    frames[index(labelState, filled, percent)] = miniMessage.deserialize(settings.actionbarFormat(), resolver);
+                }
+            }
+        }
+    }
+
+    // ======================
+    // 🖼️ Frame Lookup
+    // ======================
+    public Component frameFor(double charge, boolean boosting) {
+        LabelState labelState = boosting
+                ? LabelState.BOOSTING
+                : (charge >= 1.0 ? LabelState.READY : LabelState.CHARGING);
+
+        int filled = (int) Math.round(charge * (cells - 1));
+        int percent = (int) (charge * 100);
+
+        return frames[index(labelState, clamp(filled, cells - 1), clamp(percent, PERCENT_STEPS - 1))];
+    }
+
+    public int size() {
+        return frames.length;
+    }
+
+    private int index(LabelState labelState, int filled, int percent) {
+        return (labelState.ordinal() * cells + filled) * PERCENT_STEPS + percent;
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.max(0, Math.min(max, value));
+    }
+}
@@ -1,7 +1,24 @@
 package com.github.arzormc.happyghastboost.util;
 
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Console logging with a global level plus per-category overrides.
+ * <p>
+ * Calling threads only check the level and queue the raw arguments into a {@link LogRingBuffer}; a daemon
+ * writer thread formats and prints them. When the buffer is full, records are dropped and counted rather
+ * than stalling the tick, and the writer reports how many were lost.
+ * Arguments are formatted later on another thread, so pass values, not objects that get mutated afterwards.
+ */
 public class BoostLogger {
 
     // ======================
@@ -9,13 +26,29 @@ public class BoostLogger {
     // ======================
     public enum LoggingMode {OFF, BASIC, DEBUG, VERBOSE}
 
+    public static final List<String> CATEGORIES = List.of(
+            "Boost", "Charge", "Config", "Death", "HUD", "Input",
+            "Mount", "Particles", "Pilot", "Scheduler", "Tick", "Velocity"
+    );
+
+    private static final int BUFFER_CAPACITY = 8192;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
     private final JavaPlugin plugin;
-    public LoggingMode loggingMode = LoggingMode.BASIC;
+    public volatile LoggingMode loggingMode = LoggingMode.BASIC;
+    private final Map<String, LoggingMode> categoryLevels = new ConcurrentHashMap<>();
 
-    private final java.util.Map<String, Long> logTimestamps = new java.util.HashMap<>();
+    private final LogRingBuffer buffer = new LogRingBuffer(BUFFER_CAPACITY);
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+    private volatile boolean running = true;
 
     public BoostLogger(JavaPlugin plugin) {
         this.plugin = plugin;
+
+        this.writer = new Thread(this::drainLoop, "HappyGhastBoost-Logger");
+        this.writer.setDaemon(true);
+        this.writer.start();
     }
 
     public void loadLoggingMode() {
@@ -23,15 +56,33 @@ public class BoostLogger {
         if (raw == null) {
             plugin.getLogger().warning("⚠️ 'logging-mode' is missing from config.yml. Defaulting to BASIC.");
             loggingMode = LoggingMode.BASIC;
-            return;
+        } else {
+            try {
+                loggingMode = LoggingMode.valueOf(raw.trim().toUpperCase());
+                plugin.getLogger().info("✅ Loaded logging-mode: " + loggingMode.name());
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("❌ Invalid logging-mode in config.yml: '" + raw + "'. Defaulting to BASIC.");
+                loggingMode = LoggingMode.BASIC;
+            }
         }
 
-        try {
-            loggingMode = LoggingMode.valueOf(raw.trim().toUpperCase());
-            plugin.getLogger().info("✅ Loaded logging-mode: " + loggingMode.name());
-        } catch (IllegalArgumentException e) {
-            plugin.getLogger().warning("❌ Invalid logging-mode in config.yml: '" + raw + "'. Defaulting to BASIC.");
-            loggingMode = LoggingMode.BASIC;
+        categoryLevels.clear();
+        ConfigurationSection section = plugin.getConfig().getConfigurationSection("logging-categories");
+        if (section == null) return;
+
+        for (String key : section.getKeys(false)) {
+            String category = resolveCategory(key);
+            LoggingMode level = parseLevel(section.getString(key));
+
+            if (category == null || level == null) {
+                plugin.getLogger().warning("❌ Invalid logging-categories entry in config.yml: '" + key + ": " + section.getString(key) + "'. Ignored.");
+                continue;
+            }
+            categoryLevels.put(category, level);
+        }
+
+        if (!categoryLevels.isEmpty()) {
+            plugin.getLogger().info("✅ Loaded logging-categories: " + categoryLevels);
         }
     }
 
@@ -39,28 +90,56 @@ public class BoostLogger {
         this.loggingMode = mode;
     }
 
-    private boolean shouldLog(LoggingMode level) {
-        return loggingMode.ordinal() >= level.ordinal();
+    public void setCategoryLevel(String category, LoggingMode mode) {
+        categoryLevels.put(category, mode);
     }
 
-    public void log(LoggingMode level, String category, String message, Object... args) {
-        if (shouldLog(level)) {
-            plugin.getLogger().info(String.format(
-                    "[HappyGhastBoost:%s:%s] %s",
-                    level.name(), category, String.format(message, args)
-            ));
+    public void clearCategoryLevels() {
+        categoryLevels.clear();
+    }
+
+    /**
+     * Canonical spelling of a category name typed by a user, or null if it isn't one.
+     */
+    public static String resolveCategory(String raw) {
+        if (raw == null) return null;
+        for (String category : CATEGORIES) {
+            if (category.equalsIgnoreCase(raw.trim())) return category;
+        }
+        return null;
+    }
+
+    public static LoggingMode parseLevel(String raw) {
+        if (raw == null) return null;
+        try {
+            return LoggingMode.valueOf(raw.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
         }
     }
 
-    @SuppressWarnings("BooleanMethodIsAlwaysInverted")
-    public boolean isThrottled(String key, long intervalMs) {
-        long now = System.currentTimeMillis();
-        long last = logTimestamps.getOrDefault(key, 0L);
-        if (now - last >= intervalMs) {
-            logTimestamps.put(key, now);
-            return false;
+    public LoggingMode levelFor(String category) {
+        LoggingMode override = categoryLevels.get(category);
+        return override != null ? override : loggingMode;
+    }
+
+    private boolean shouldLog(LoggingMode level, String category) {
+        return levelFor(category).ordinal() >= level.ordinal();
+    }
+
+    // Hot paths check this first so disabled logs don't pay for varargs boxing.
+    public boolean isVerbose(String category) {
+        return shouldLog(LoggingMode.VERBOSE, category);
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public void log(LoggingMode level, String category, String message, Object... args) {
+        if (shouldLog(level, category) && !buffer.offer(level, category, message, args)) {
+            dropped.increment();
         }
-        return true;
     }
 
     public void logBasic(String category, String message, Object... args) {
@@ -74,4 +153,66 @@ public class BoostLogger {
     public void logVerbose(String category, String message, Object... args) {
         log(LoggingMode.VERBOSE, category, message, args);
     }
-}
\ No newline at end of file
+
+    // ======================
+    // 🧵 Writer Thread
+    // ======================
+
+    /**
+     * Stops the writer after printing everything already queued. Called from onDisable.
+     */
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        LogRingBuffer.Record record = new LogRingBuffer.Record();
+        long reportedDrops = 0L;
+
+        while (running) {
+            boolean wrote = false;
+            while (buffer.poll(record)) {
+                write(record);
+                wrote = true;
+            }
+
+            long drops = dropped.sum();
+            if (drops != reportedDrops) {
+                plugin.getLogger().warning(String.format(
+                        "[HappyGhastBoost:Logger] Log buffer full (%d slots): dropped %d records.",
+                        buffer.capacity(), drops - reportedDrops
+                ));
+                reportedDrops = drops;
+            }
+
+            if (!wrote) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+
+        while (buffer.poll(record)) {
+            write(record);
+        }
+    }
+
+    private void write(LogRingBuffer.Record record) {
+        String body;
+        try {
+            body = String.format(record.message, record.args);
+        } catch (IllegalFormatException e) {
+            body = record.message + " (bad format: " + e.getMessage() + ")";
+        }
+
+        plugin.getLogger().info(String.format(
+                "[HappyGhastBoost:%s:%s] %s",
+                record.level.name(), record.category, body
+        ));
+        record.args = null;
+    }
+}
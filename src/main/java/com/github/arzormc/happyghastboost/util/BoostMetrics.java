@@ -0,0 +1,102 @@
+package com.github.arzormc.happyghastboost.util;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Runtime counters and tick timing for /hgb stats and the Prometheus export.
+ * <p>
+ * Counters are {@link LongAdder}s, so the main thread, region threads and compute threads can bump them
+ * without contention; gauges are read from the pilot registry only when someone asks.
+ */
+public final class BoostMetrics {
+
+    // ======================
+    // 🔢 Counters
+    // ======================
+    public enum Counter {
+        BOOSTS_TRIGGERED("boosts_triggered_total", "Boosts started"),
+        BOOSTS_LOST("boosts_lost_total", "Boosts cancelled by misalignment"),
+        BOOSTS_EMPTIED("boosts_emptied_total", "Boosts ended by an empty charge"),
+        BOOSTS_BLOCKED("boosts_blocked_total", "Boosts ended early because terrain lookahead saw an obstacle"),
+        BOOSTS_ZONED("boosts_zoned_total", "Boosts ended by flying into a no-boost zone"),
+        BOOSTS_GOVERNED("boost_updates_governed_total", "Boost updates slowed because chunks ahead were not loaded yet"),
+        ACTIONBARS_SENT("actionbars_sent_total", "Action bar updates sent to pilots"),
+        PARTICLES_SPAWNED("particles_spawned_total", "Trail particles sent, counted once per receiver"),
+        VELOCITY_UPDATES("velocity_updates_total", "Ghast velocity updates"),
+        VELOCITY_SKIPPED("velocity_skipped_total", "Velocity updates skipped because the ghast already moved at the target"),
+        PDC_WRITES("pdc_writes_total", "Charge writes to ghast persistent data");
+
+        public final String metricName;
+        public final String help;
+
+        Counter(String metricName, String help) {
+            this.metricName = metricName;
+            this.help = help;
+        }
+    }
+
+    private final LongAdder[] counters = new LongAdder[Counter.values().length];
+    private final LatencyHistogram tickDuration = new LatencyHistogram();
+
+    private volatile IntSupplier activePilots = () -> 0;
+    private volatile IntSupplier boostingPilots = () -> 0;
+    private volatile long resetAt = System.currentTimeMillis();
+
+    public BoostMetrics() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    public void increment(Counter counter) {
+        counters[counter.ordinal()].increment();
+    }
+
+    public void add(Counter counter, long amount) {
+        if (amount != 0L) counters[counter.ordinal()].add(amount);
+    }
+
+    public long get(Counter counter) {
+        return counters[counter.ordinal()].sum();
+    }
+
+    /**
+     * One boost-loop run: a full pass on the classic backend, one pilot on the region backend.
+     */
+    public void recordTick(long nanos) {
+        tickDuration.recordNanos(nanos);
+    }
+
+    public LatencyHistogram tickDuration() {
+        return tickDuration;
+    }
+
+    // ======================
+    // 📏 Gauges
+    // ======================
+    public void setGauges(IntSupplier activePilots, IntSupplier boostingPilots) {
+        this.activePilots = activePilots;
+        this.boostingPilots = boostingPilots;
+    }
+
+    public int activePilots() {
+        return activePilots.getAsInt();
+    }
+
+    public int boostingPilots() {
+        return boostingPilots.getAsInt();
+    }
+
+    public long resetAt() {
+        return resetAt;
+    }
+
+    public void reset() {
+        for (LongAdder counter : counters) {
+            counter.reset();
+        }
+        tickDuration.reset();
+        resetAt = System.currentTimeMillis();
+    }
+}
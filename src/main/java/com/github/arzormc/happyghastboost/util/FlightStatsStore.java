@@ -0,0 +1,296 @@
+package com.github.arzormc.happyghastboost.util;
+
+import com.github.arzormc.happyghastboost.config.BoostSettings;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-player flight stats in a local SQLite file.
+ * <p>
+ * Pilots hand over what they flew since the last hand-over through a bounded queue; a full queue drops
+ * the record and counts it rather than blocking the tick. A daemon writer thread merges records per player
+ * and upserts them in one batched transaction every flush-interval, then re-reads the leaderboards into
+ * a cache, so {@link #top} never touches the database.
+ */
+public final class FlightStatsStore {
+
+    // ======================
+    // 🏆 Stats
+    // ======================
+    public enum Stat {
+        BOOSTS("boosts", "boosts", 1.0),
+        TIME("time", "boost_ms", 0.001),        // stored in ms, shown in seconds
+        DISTANCE("distance", "distance", 1.0),  // blocks
+        SPEED("speed", "top_speed", 1.0),       // blocks/second
+        LOST("lost", "boosts_lost", 1.0);
+
+        public final String key;
+        final String column;
+        final double scale;
+
+        Stat(String key, String column, double scale) {
+            this.key = key;
+            this.column = column;
+            this.scale = scale;
+        }
+
+        public static Stat fromKey(String raw) {
+            for (Stat stat : values()) {
+                if (stat.key.equalsIgnoreCase(raw.trim())) return stat;
+            }
+            return null;
+        }
+    }
+
+    public record Entry(String name, double value) {
+    }
+
+    private record Flight(UUID pilotId, String name, int boosts, long boostMs, double distance, double topSpeed, int lost) {
+
+        Flight plus(Flight other) {
+            return new Flight(pilotId, other.name, boosts + other.boosts, boostMs + other.boostMs,
+                    distance + other.distance, Math.max(topSpeed, other.topSpeed), lost + other.lost);
+        }
+    }
+
+    private static final String UPSERT = """
+            INSERT INTO flight_stats (uuid, name, boosts, boost_ms, distance, top_speed, boosts_lost)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT(uuid) DO UPDATE SET
+                name = excluded.name,
+                boosts = boosts + excluded.boosts,
+                boost_ms = boost_ms + excluded.boost_ms,
+                distance = distance + excluded.distance,
+                top_speed = MAX(top_speed, excluded.top_speed),
+                boosts_lost = boosts_lost + excluded.boosts_lost
+            """;
+    private static final long MAX_WAIT_MS = 1000L;
+
+    private final JavaPlugin plugin;
+    private final BoostLogger logger;
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile BlockingQueue<Flight> queue; // null while disabled
+    private volatile Map<Stat, List<Entry>> top = Map.of();
+    private volatile boolean running;
+    private Thread writer;
+    private BoostSettings.FlightStats config;
+
+    public FlightStatsStore(JavaPlugin plugin, BoostLogger logger) {
+        this.plugin = plugin;
+        this.logger = logger;
+    }
+
+    // ======================
+    // 🎬 Lifecycle
+    // ======================
+
+    /**
+     * Starts, stops or restarts the writer to match {@code config}. No-op if nothing changed.
+     */
+    public void apply(BoostSettings.FlightStats config) {
+        if (config.equals(this.config) && (writer != null) == config.enabled()) return;
+
+        stop();
+        this.config = config;
+        if (!config.enabled()) return;
+
+        Path file = plugin.getDataFolder().toPath().resolve(config.file());
+        BlockingQueue<Flight> flights = new ArrayBlockingQueue<>(config.queueCapacity());
+        running = true;
+        queue = flights;
+        writer = new Thread(() -> writeLoop(file, flights, config), "HappyGhastBoost-Stats");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stops the writer after it has written everything already handed over. Called from onDisable and on reload.
+     */
+    public void stop() {
+        if (writer == null) return;
+
+        queue = null;
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    public boolean isEnabled() {
+        return queue != null;
+    }
+
+    // ======================
+    // ✍️ Producers
+    // ======================
+
+    /**
+     * Hands over a pilot's flying since the last call. Never blocks; drops the record if the queue is full.
+     */
+    public void record(UUID pilotId, String name, int boosts, long boostMs, double distance, double topSpeed, int lost) {
+        BlockingQueue<Flight> flights = queue;
+        if (flights == null) return;
+
+        if (!flights.offer(new Flight(pilotId, name, boosts, boostMs, distance, topSpeed, lost))) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * The cached leaderboard for {@code stat}, as of the last flush. Safe to call from any thread.
+     */
+    public List<Entry> top(Stat stat) {
+        return top.getOrDefault(stat, List.of());
+    }
+
+    // ======================
+    // 🧵 Writer Thread
+    // ======================
+    private void writeLoop(Path file, BlockingQueue<Flight> flights, BoostSettings.FlightStats config) {
+        Connection connection = open(file);
+        if (connection == null) {
+            queue = null;
+            return;
+        }
+
+        Map<UUID, Flight> pending = new HashMap<>();
+        long nextFlush = System.currentTimeMillis() + config.flushIntervalMs();
+        long reportedDrops = dropped.sum();
+        refreshTop(connection, config.topSize());
+
+        try {
+            while (running || !flights.isEmpty()) {
+                long wait = Math.max(1L, Math.min(MAX_WAIT_MS, nextFlush - System.currentTimeMillis()));
+                Flight flight = running ? flights.poll(wait, TimeUnit.MILLISECONDS) : flights.poll();
+                while (flight != null) {
+                    pending.merge(flight.pilotId(), flight, Flight::plus);
+                    flight = flights.poll();
+                }
+
+                if (System.currentTimeMillis() < nextFlush) continue;
+                nextFlush = System.currentTimeMillis() + config.flushIntervalMs();
+
+                if (!pending.isEmpty()) {
+                    flush(connection, pending);
+                    refreshTop(connection, config.topSize());
+                }
+
+                long drops = dropped.sum();
+                if (drops != reportedDrops) {
+                    logger.logBasic("Config", "Flight stats queue full (%d): dropped %d records.",
+                            config.queueCapacity(), drops - reportedDrops);
+                    reportedDrops = drops;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            flush(connection, pending);
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    private Connection open(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            // Paper ships the SQLite driver; loading it by name registers it with DriverManager.
+            Class.forName("org.sqlite.JDBC");
+            Connection connection = DriverManager.getConnection("jdbc:sqlite:" + file.toAbsolutePath());
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("""
+                        CREATE TABLE IF NOT EXISTS flight_stats (
+                            uuid TEXT PRIMARY KEY,
+                            name TEXT NOT NULL,
+                            boosts INTEGER NOT NULL DEFAULT 0,
+                            boost_ms INTEGER NOT NULL DEFAULT 0,
+                            distance REAL NOT NULL DEFAULT 0,
+                            top_speed REAL NOT NULL DEFAULT 0,
+                            boosts_lost INTEGER NOT NULL DEFAULT 0
+                        )""");
+            }
+            connection.setAutoCommit(false);
+            connection.commit();
+            logger.logBasic("Config", "Recording flight stats to %s.", file);
+            return connection;
+        } catch (Exception e) {
+            logger.logBasic("Config", "Flight stats disabled: could not open %s: %s", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void flush(Connection connection, Map<UUID, Flight> pending) {
+        if (pending.isEmpty()) return;
+
+        try (PreparedStatement statement = connection.prepareStatement(UPSERT)) {
+            for (Flight flight : pending.values()) {
+                statement.setString(1, flight.pilotId().toString());
+                statement.setString(2, flight.name());
+                statement.setInt(3, flight.boosts());
+                statement.setLong(4, flight.boostMs());
+                statement.setDouble(5, flight.distance());
+                statement.setDouble(6, flight.topSpeed());
+                statement.setInt(7, flight.lost());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            logger.logBasic("Config", "Could not write %d flight stats: %s", pending.size(), e.getMessage());
+            try {
+                connection.rollback();
+            } catch (SQLException ignored) {
+            }
+        }
+        pending.clear();
+    }
+
+    private void refreshTop(Connection connection, int limit) {
+        Map<Stat, List<Entry>> leaderboards = new EnumMap<>(Stat.class);
+        for (Stat stat : Stat.values()) {
+            // Column names come from the enum, never from the command line.
+            String query = String.format(Locale.ROOT,
+                    "SELECT name, %1$s FROM flight_stats WHERE %1$s > 0 ORDER BY %1$s DESC LIMIT ?", stat.column);
+            List<Entry> entries = new ArrayList<>(limit);
+            try (PreparedStatement statement = connection.prepareStatement(query)) {
+                statement.setInt(1, limit);
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        entries.add(new Entry(rows.getString(1), rows.getDouble(2) * stat.scale));
+                    }
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                logger.logBasic("Config", "Could not read the %s leaderboard: %s", stat.key, e.getMessage());
+            }
+            leaderboards.put(stat, List.copyOf(entries));
+        }
+        top = leaderboards;
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.arzormc.happyghastboost.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram of durations in microseconds. Values below 16 µs get exact buckets; above
+ * that each power of two is split into 8 buckets, so any percentile is within 12.5% of the true value.
+ * Recording is one array increment and never allocates.
+ */
+public final class LatencyHistogram {
+
+    private static final int LINEAR = 16;
+    private static final int SUB_BUCKETS = 8;
+    private static final int SUB_BITS = 3;
+    private static final int MAX_EXPONENT = 40; // ~12 days in µs; anything longer lands in the last bucket
+
+    private final AtomicLongArray buckets = new AtomicLongArray(LINEAR + (MAX_EXPONENT - 4 + 1) * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void recordNanos(long nanos) {
+        long micros = Math.max(0L, nanos / 1000L);
+        buckets.incrementAndGet(indexOf(micros));
+        count.increment();
+        sumMicros.add(micros);
+        if (micros > maxMicros.get()) {
+            maxMicros.accumulateAndGet(micros, Math::max);
+        }
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long sumMicros() {
+        return sumMicros.sum();
+    }
+
+    public long maxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * Upper bound of the bucket holding the given quantile (0.0–1.0), in microseconds; 0 if empty.
+     */
+    public long percentileMicros(double quantile) {
+        long total = 0L;
+        int length = buckets.length();
+        long[] snapshot = new long[length];
+        for (int i = 0; i < length; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0L) return 0L;
+
+        long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0L;
+        for (int i = 0; i < length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) return Math.min(upperBound(i), maxMicros());
+        }
+        return maxMicros();
+    }
+
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0L);
+        }
+        count.reset();
+        sumMicros.reset();
+        maxMicros.set(0L);
+    }
+
+    // ======================
+    // 🧮 Bucketing
+    // ======================
+    private static int indexOf(long micros) {
+        if (micros < LINEAR) return (int) micros;
+
+        int exponent = Math.min(MAX_EXPONENT, 63 - Long.numberOfLeadingZeros(micros));
+        int sub = (int) ((micros >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1));
+        if (exponent == MAX_EXPONENT && micros >>> MAX_EXPONENT > 1) sub = SUB_BUCKETS - 1;
+        return LINEAR + (exponent - 4) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int index) {
+        if (index < LINEAR) return index;
+
+        int exponent = (index - LINEAR) / SUB_BUCKETS + 4;
+        int sub = (index - LINEAR) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BITS);
+        return (1L << exponent) + (sub + 1) * width - 1;
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.arzormc.happyghastboost.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free queue of log records: many producers (main and region threads), one consumer
+ * (the log writer thread). Records are preallocated and reused, and hold the raw format arguments so
+ * producers never format. A full buffer rejects the record instead of blocking.
+ * <p>
+ * Each cell carries a sequence number; a producer may claim cell {@code i} when its sequence equals the
+ * claimed position, and the consumer may read it once the producer has published {@code position + 1}.
+ */
+final class LogRingBuffer {
+
+    static final class Record {
+        BoostLogger.LoggingMode level;
+        String category;
+        String message;
+        Object[] args;
+    }
+
+    private final int mask;
+    private final Record[] records;
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // consumer thread only
+
+    LogRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.records = new Record[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            records[i] = new Record();
+            sequences.set(i, i);
+        }
+    }
+
+    // ======================
+    // ✍️ Producers
+    // ======================
+    boolean offer(BoostLogger.LoggingMode level, String category, String message, Object[] args) {
+        long position = tail.get();
+
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    Record record = records[index];
+                    record.level = level;
+                    record.category = category;
+                    record.message = message;
+                    record.args = args;
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false; // the consumer hasn't freed this cell yet: buffer full
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    // ======================
+    // 📤 Consumer
+    // ======================
+
+    /**
+     * Copies the oldest record into {@code into} and frees its cell.
+     *
+     * @return false if the buffer is empty
+     */
+    boolean poll(Record into) {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) return false;
+
+        Record record = records[index];
+        into.level = record.level;
+        into.category = record.category;
+        into.message = record.message;
+        into.args = record.args;
+
+        record.category = null;
+        record.message = null;
+        record.args = null;
+
+        sequences.lazySet(index, head + records.length);
+        head++;
+        return true;
+    }
+
+    int capacity() {
+        return records.length;
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.arzormc.happyghastboost.util;
 
+import com.github.arzormc.happyghastboost.config.BoostSettings;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
@@ -53,19 +54,14 @@ public class MessageUtil {
         sender.sendMessage(msg);
     }
 
-    public static String buildBoostBar(JavaPlugin plugin, double charge, boolean boosting) {
-        int length = plugin.getConfig().getInt("bar-style.length", 10);
+    public static String buildBoostBar(BoostSettings.BarStyle style, double charge, boolean boosting) {
+        int length = style.length();
 
-        String filledChar = plugin.getConfig().getString("bar-style.character-filled", "█");
-        String emptyChar = plugin.getConfig().getString("bar-style.character-empty", "░");
-
-        String colorFilledKey = boosting ? "bar-style.color-filled-boosting" : "bar-style.color-filled";
-        String colorFilled = plugin.getConfig().getString(colorFilledKey, "<green>");
-        String colorEmpty = plugin.getConfig().getString("bar-style.color-empty", "<dark_gray>");
+        String colorFilled = boosting ? style.colorFilledBoosting() : style.colorFilled();
 
         int filled = (int) Math.round(charge * length);
         int empty = length - filled;
 
-        return colorFilled + filledChar.repeat(filled) + colorEmpty + emptyChar.repeat(empty);
+        return colorFilled + style.characterFilled().repeat(filled) + style.colorEmpty() + style.characterEmpty().repeat(empty);
     }
 }
@@ -0,0 +1,116 @@
+package com.github.arzormc.happyghastboost.util;
+
+import com.github.arzormc.happyghastboost.config.BoostSettings;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically writes {@link BoostMetrics} to a Prometheus text-format file in the plugin folder, for the
+ * node exporter's textfile collector. Runs on the async scheduler and replaces the file atomically, so a
+ * scrape never sees a half-written file.
+ */
+public final class MetricsExporter {
+
+    private static final String PREFIX = "happyghastboost_";
+
+    private final JavaPlugin plugin;
+    private final BoostMetrics metrics;
+    private final BoostLogger logger;
+
+    private ScheduledTask task;
+    private BoostSettings.MetricsExport running;
+
+    public MetricsExporter(JavaPlugin plugin, BoostMetrics metrics, BoostLogger logger) {
+        this.plugin = plugin;
+        this.metrics = metrics;
+        this.logger = logger;
+    }
+
+    /**
+     * Starts, stops or reschedules the export to match {@code export}. No-op if nothing changed.
+     */
+    public void apply(BoostSettings.MetricsExport export) {
+        if (export.equals(running) && (task != null) == export.enabled()) return;
+
+        stop();
+        running = export;
+        if (!export.enabled()) return;
+
+        Path file = plugin.getDataFolder().toPath().resolve(export.file());
+        long period = export.intervalSeconds();
+        task = Bukkit.getAsyncScheduler().runAtFixedRate(plugin, scheduled -> write(file), period, period, TimeUnit.SECONDS);
+        logger.logBasic("Config", "Writing metrics to %s every %ds.", file, period);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    // ======================
+    // 📝 Prometheus Text Format
+    // ======================
+    private void write(Path file) {
+        String body = render();
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(temp, body, StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.logBasic("Config", "Could not write metrics file %s: %s", file, e.getMessage());
+        }
+    }
+
+    String render() {
+        StringBuilder out = new StringBuilder(2048);
+
+        LatencyHistogram tick = metrics.tickDuration();
+        String tickName = PREFIX + "tick_duration_seconds";
+        header(out, tickName, "summary", "Boost loop run time (full pass on CLASSIC, one ghast on REGION)");
+        sample(out, tickName + "{quantile=\"0.5\"}", tick.percentileMicros(0.50) / 1_000_000.0);
+        sample(out, tickName + "{quantile=\"0.99\"}", tick.percentileMicros(0.99) / 1_000_000.0);
+        sample(out, tickName + "_sum", tick.sumMicros() / 1_000_000.0);
+        sample(out, tickName + "_count", tick.count());
+
+        header(out, PREFIX + "pilots_active", "gauge", "Registered pilots");
+        sample(out, PREFIX + "pilots_active", metrics.activePilots());
+        header(out, PREFIX + "pilots_boosting", "gauge", "Pilots currently boosting");
+        sample(out, PREFIX + "pilots_boosting", metrics.boostingPilots());
+
+        for (BoostMetrics.Counter counter : BoostMetrics.Counter.values()) {
+            header(out, PREFIX + counter.metricName, "counter", counter.help);
+            sample(out, PREFIX + counter.metricName, metrics.get(counter));
+        }
+        return out.toString();
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, double value) {
+        out.append(name).append(' ').append(String.format(Locale.ROOT, "%.6f", value)).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, long value) {
+        out.append(name).append(' ').append(value).append('\n');
+    }
+}
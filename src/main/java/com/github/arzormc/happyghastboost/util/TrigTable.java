@@ -0,0 +1,31 @@
+package com.github.arzormc.happyghastboost.util;
+
+/**
+ * Precomputed sine/cosine lookup for Minecraft yaw and pitch angles (degrees).
+ * Resolution is 360/4096 ≈ 0.09°, well below what the alignment thresholds can distinguish.
+ */
+public final class TrigTable {
+
+    private static final int SIZE = 4096;
+    private static final int MASK = SIZE - 1;
+    private static final float INDEX_PER_DEGREE = SIZE / 360f;
+
+    private static final double[] SIN = new double[SIZE];
+
+    static {
+        for (int i = 0; i < SIZE; i++) {
+            SIN[i] = Math.sin(i * (2.0 * Math.PI / SIZE));
+        }
+    }
+
+    private TrigTable() {
+    }
+
+    public static double sin(float degrees) {
+        return SIN[Math.round(degrees * INDEX_PER_DEGREE) & MASK];
+    }
+
+    public static double cos(float degrees) {
+        return SIN[(Math.round(degrees * INDEX_PER_DEGREE) + SIZE / 4) & MASK];
+    }
+}